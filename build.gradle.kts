@@ -25,6 +25,7 @@ plugins {
     alias(libs.plugins.shadow)
     alias(libs.plugins.slimjar)
     alias(libs.plugins.runPaper)
+    alias(libs.plugins.jmh)
 }
 
 // ADD YOURSELF AS A NEW LINE IF YOU WANT YOUR OWN BUILD TASK GENERATED
@@ -47,6 +48,19 @@ tasks {
         options.encoding = "UTF-8"
     }
 
+    named<JavaCompile>("compileJmhJava") {
+        options.encoding = "UTF-8"
+    }
+
+    register<Copy>("jmhBaseline") {
+        group = "benchmark"
+        description = "Runs the benchmarks and stores the results as the checked in baseline."
+        dependsOn("jmh")
+        from(layout.buildDirectory.file("results/jmh/results.json"))
+        into(layout.projectDirectory.dir("src/jmh"))
+        rename { "baseline.json" }
+    }
+
     build {
         dependsOn(shadowJar)
     }
@@ -87,6 +101,15 @@ java {
     toolchain.languageVersion = JavaLanguageVersion.of(17)
 }
 
+jmh {
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+}
+
 slimJar {
     relocate("org.apace.commons", "${lib}.commons")
     relocate("com.github.zafarkhaja.semver", "${lib}.semver")
@@ -128,6 +151,13 @@ dependencies {
     slim(libs.semver)
     slim(libs.commons.io)
     slim(libs.commons.imaging)
+
+    //Benchmarks
+    jmh(libs.spigot)
+    jmh(libs.adventure.minimessage)
+    jmh(libs.packetevents) {
+        exclude(group = "net.kyori")
+    }
 }
 
 // IDE Server stuff
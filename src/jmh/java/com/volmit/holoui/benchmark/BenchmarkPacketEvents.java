@@ -0,0 +1,111 @@
+/*
+ * HoloUI is a holographic user interface for Minecraft Bukkit Servers
+ * Copyright (c) 2025 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.volmit.holoui.benchmark;
+
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.PacketEventsAPI;
+import com.github.retrooper.packetevents.injector.ChannelInjector;
+import com.github.retrooper.packetevents.manager.player.PlayerManager;
+import com.github.retrooper.packetevents.manager.protocol.ProtocolManager;
+import com.github.retrooper.packetevents.manager.server.ServerManager;
+import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.netty.NettyManager;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+
+// Only the server version is known, which is all the wrapper constructors ask for.
+final class BenchmarkPacketEvents extends PacketEventsAPI<Object> {
+
+    private static final ServerVersion VERSION = ServerVersion.V_1_19_4;
+
+    private final ServerManager serverManager = (ServerManager) Proxy.newProxyInstance(
+            ServerManager.class.getClassLoader(), new Class<?>[]{ServerManager.class}, handler());
+
+    static synchronized void install() {
+        if (PacketEvents.getAPI() == null)
+            PacketEvents.setAPI(new BenchmarkPacketEvents());
+    }
+
+    private static InvocationHandler handler() {
+        return (proxy, method, args) -> {
+            if (method.getName().equals("getVersion"))
+                return VERSION;
+            if (method.isDefault())
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            throw new UnsupportedOperationException(method.getName());
+        };
+    }
+
+    @Override
+    public void load() {
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return true;
+    }
+
+    @Override
+    public void init() {
+    }
+
+    @Override
+    public boolean isInitialized() {
+        return true;
+    }
+
+    @Override
+    public void terminate() {
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return false;
+    }
+
+    @Override
+    public Object getPlugin() {
+        return null;
+    }
+
+    @Override
+    public ServerManager getServerManager() {
+        return serverManager;
+    }
+
+    @Override
+    public ProtocolManager getProtocolManager() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public PlayerManager getPlayerManager() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public NettyManager getNettyManager() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ChannelInjector getInjector() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * HoloUI is a holographic user interface for Minecraft Bukkit Servers
+ * Copyright (c) 2025 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.volmit.holoui.benchmark;
+
+import com.volmit.holoui.utils.ImageUtils;
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ImageBenchmark {
+
+    @Param({"8", "16", "32", "64"})
+    public int size;
+
+    private BufferedImage image;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(size);
+        image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        int colour = 0xFF000000;
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                if (random.nextInt(4) == 0)
+                    colour = random.nextInt(8) == 0 ? 0 : 0xFF000000 | random.nextInt(0xFFFFFF);
+                image.setRGB(x, y, colour);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Component> toComponents() {
+        return ImageUtils.toComponents(image, true);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * HoloUI is a holographic user interface for Minecraft Bukkit Servers
+ * Copyright (c) 2025 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.volmit.holoui.benchmark;
+
+import com.volmit.holoui.utils.math.CollisionPlane;
+import com.volmit.holoui.utils.math.MathHelper;
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MathBenchmark {
+
+    private final Vector origin = new Vector(0, 1.62, 0);
+    private final Vector hit = new Vector(0.05, 0.02, 1).normalize();
+    private final Vector miss = new Vector(1, 0.5, 0.2).normalize();
+    private final Location center = new Location(null, 0, 1, 2);
+    private final Location point = new Location(null, 0.5, 1, 2.5);
+    private final Location eye = new Location(null, 0, 1.62, 0);
+
+    private CollisionPlane plane;
+    private float yaw;
+
+    @Setup
+    public void setup() {
+        plane = new CollisionPlane(new Vector(0, 1.62, 2), 1.5F, 1.5F);
+        plane.rotate(0, 180);
+    }
+
+    @Benchmark
+    public boolean isLookingAtHit() {
+        return plane.isLookingAt(origin, hit);
+    }
+
+    @Benchmark
+    public boolean isLookingAtMiss() {
+        return plane.isLookingAt(origin, miss);
+    }
+
+    @Benchmark
+    public CollisionPlane rotate() {
+        yaw = (yaw + 1) % 360;
+        plane.rotate(0, yaw);
+        return plane;
+    }
+
+    // Per component and viewer each tick, run with the gc profiler to check it stays allocation free
+    @Benchmark
+    public boolean hover() {
+        yaw = (yaw + 1) % 360;
+        eye.setX(yaw / 3600);
+        eye.setYaw(yaw / 10 - 18);
+        plane.faceTowards(eye.getX(), eye.getY(), eye.getZ());
+        return plane.isLookingAt(eye);
+    }
+
+    @Benchmark
+    public Vector getRotationFromDirection() {
+        return MathHelper.getRotationFromDirection(hit);
+    }
+
+    @Benchmark
+    public Location rotateAroundPoint() {
+        yaw = (yaw + 1) % 360;
+        return MathHelper.rotateAroundPoint(point, center, 0, yaw);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * HoloUI is a holographic user interface for Minecraft Bukkit Servers
+ * Copyright (c) 2025 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.volmit.holoui.benchmark;
+
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import com.volmit.holoui.utils.ArmorStand;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Location;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PacketBenchmark {
+
+    private final Component[] names = {Component.text("Hello World"), Component.text("Click to open")};
+    private final Location location = new Location(null, 0, 1.62, 2);
+
+    private ArmorStand stand;
+    private int tick;
+
+    @Setup
+    public void setup() {
+        BenchmarkPacketEvents.install();
+        stand = ArmorStand.Builder.nametagArmorStand(1, names[0], location);
+    }
+
+    @Benchmark
+    public List<PacketWrapper<?>> spawn() {
+        return stand.spawn();
+    }
+
+    // A name change per tick, the metadata only carries the name entry
+    @Benchmark
+    public PacketWrapper<?> dataPacket() {
+        tick++;
+        return stand.changeName(names[tick & 1]);
+    }
+
+    @Benchmark
+    public PacketWrapper<?> unchangedDataPacket() {
+        return stand.changeName(stand.displayName());
+    }
+}
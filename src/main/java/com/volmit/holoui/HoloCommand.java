@@ -19,8 +19,14 @@ package com.volmit.holoui;
 
 import co.aikar.commands.*;
 import co.aikar.commands.annotation.*;
+import co.aikar.commands.bukkit.contexts.OnlinePlayer;
 import com.volmit.holoui.config.HuiSettings;
 import com.volmit.holoui.config.MenuDefinitionData;
+import com.volmit.holoui.menu.ArmorStandManager;
+import com.volmit.holoui.menu.MenuSession;
+import com.volmit.holoui.menu.special.BlockMenuSession;
+import com.volmit.holoui.utils.EntityIds;
+import com.volmit.holoui.utils.Profiler;
 import com.volmit.holoui.utils.SchedulerUtils;
 import net.md_5.bungee.api.chat.ClickEvent;
 import net.md_5.bungee.api.chat.ComponentBuilder;
@@ -29,6 +35,8 @@ import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import java.util.List;
+
 import static com.volmit.holoui.HoloUI.INSTANCE;
 
 @CommandAlias("holoui|holo|hui|holou|hu")
@@ -117,6 +125,84 @@ public class HoloCommand extends BaseCommand {
         } else player.sendMessage(PREFIX + ChatColor.RED + "No menu is currently open.");
     }
 
+    @Subcommand("share")
+    @Description("Show your open menu to another player")
+    @CommandCompletion("@players")
+    @CommandPermission(ROOT_PERM + ".share")
+    public void share(Player player, OnlinePlayer target) {
+        if (INSTANCE.getSessionManager().shareSession(player, target.getPlayer()))
+            player.sendMessage(PREFIX + ChatColor.GREEN + target.getPlayer().getName() + " can now see your menu.");
+        else
+            player.sendMessage(PREFIX + ChatColor.RED + "No menu is open, or it is already shared with " + target.getPlayer().getName() + ".");
+    }
+
+    @Subcommand("unshare")
+    @Description("Hide your open menu from another player")
+    @CommandCompletion("@players")
+    @CommandPermission(ROOT_PERM + ".share")
+    public void unshare(Player player, OnlinePlayer target) {
+        if (INSTANCE.getSessionManager().unshareSession(player, target.getPlayer()))
+            player.sendMessage(PREFIX + ChatColor.GREEN + target.getPlayer().getName() + " can no longer see your menu.");
+        else
+            player.sendMessage(PREFIX + ChatColor.RED + "Your menu is not shared with " + target.getPlayer().getName() + ".");
+    }
+
+    @Subcommand("stats")
+    @Description("Show HoloUI performance statistics")
+    @CommandCompletion("@menu")
+    @CommandPermission(ROOT_PERM + ".stats")
+    public void stats(CommandSender sender, @Optional String menu) {
+        List<MenuSession> sessions = INSTANCE.getSessionManager().getSessions();
+        if (menu != null)
+            sessions.removeIf(s -> !s.getId().equalsIgnoreCase(menu));
+        // Previews tick with the player on the main thread and have no reduced rate to report.
+        List<MenuSession> previews = sessions.stream().filter(s -> s instanceof BlockMenuSession).toList();
+        sessions.removeAll(previews);
+        double tickRate = sessions.stream().mapToInt(MenuSession::getTickRate).average().orElse(0);
+
+        sender.sendMessage(ChatColor.GRAY + "----------+=== Stats" + (menu != null ? " (" + menu + ")" : "") + " ===+----------");
+        sender.sendMessage(ChatColor.GRAY + "  Sessions: " + ChatColor.WHITE + sessions.size()
+                + ChatColor.GRAY + ", avg " + ChatColor.WHITE + String.format("%.1f", tickRate) + ChatColor.GRAY + " ticks/s, "
+                + ChatColor.WHITE + previews.size() + ChatColor.GRAY + " previews");
+        if (menu != null) {
+            for (MenuSession session : sessions)
+                sender.sendMessage(ChatColor.GRAY + "    " + session.getPlayer().getName() + ": " + ChatColor.WHITE + session.getTickRate()
+                        + ChatColor.GRAY + " ticks/s, " + ChatColor.WHITE + session.getViewers().size() + ChatColor.GRAY + " viewers");
+        }
+        if (menu == null) {
+            sender.sendMessage(ChatColor.GRAY + "  Entities: " + ChatColor.WHITE + ArmorStandManager.size()
+                    + ChatColor.GRAY + " live, ids " + ChatColor.WHITE + EntityIds.reserved() + ChatColor.GRAY + " reserved / "
+                    + ChatColor.WHITE + EntityIds.free() + ChatColor.GRAY + " free / "
+                    + ChatColor.WHITE + EntityIds.quarantined() + ChatColor.GRAY + " quarantined");
+        }
+
+        if (!Profiler.isEnabled()) {
+            sender.sendMessage(ChatColor.GRAY + "  Profiling is disabled, set \"profilerEnabled\" in settings.json to collect timings.");
+            sender.sendMessage(ChatColor.GRAY + "----------------------------------");
+            return;
+        }
+
+        sender.sendMessage(ChatColor.GRAY + "  Profiling for " + ChatColor.WHITE + String.format("%.0fs", Profiler.elapsedSeconds()));
+        if (menu == null) {
+            sender.sendMessage(ChatColor.GRAY + "  Packets: " + ChatColor.WHITE + String.format("%.1f/s", Profiler.packetsPerSecond())
+                    + ChatColor.GRAY + ", " + ChatColor.WHITE + String.format("%.1f KiB/s", Profiler.bytesPerSecond() / 1024));
+        }
+        for (Profiler.Section section : Profiler.Section.values()) {
+            Profiler.Histogram histogram = menu == null ? Profiler.get(section) : Profiler.get(section, menu);
+            if (histogram == null || histogram.count() == 0) continue;
+            sender.sendMessage(ChatColor.GRAY + "  " + section.getDisplayName() + ": " + ChatColor.WHITE + histogram.count()
+                    + ChatColor.GRAY + " calls, avg " + ChatColor.WHITE + micros(histogram.averageNanos())
+                    + ChatColor.GRAY + ", p50 " + ChatColor.WHITE + micros(histogram.percentileNanos(.5))
+                    + ChatColor.GRAY + ", p99 " + ChatColor.WHITE + micros(histogram.percentileNanos(.99))
+                    + ChatColor.GRAY + ", max " + ChatColor.WHITE + micros(histogram.maxNanos()));
+        }
+        sender.sendMessage(ChatColor.GRAY + "----------------------------------");
+    }
+
+    private static String micros(long nanos) {
+        return String.format("%.1fµs", nanos / 1000D);
+    }
+
     @Subcommand("builder")
     @Description("Builder server status")
     @CommandPermission(ROOT_PERM + ".server")
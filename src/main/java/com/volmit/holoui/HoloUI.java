@@ -20,7 +20,11 @@ package com.volmit.holoui;
 import co.aikar.commands.PaperCommandManager;
 import com.github.retrooper.packetevents.PacketEvents;
 import com.volmit.holoui.config.ConfigManager;
+import com.volmit.holoui.config.HuiSettings;
 import com.volmit.holoui.menu.MenuSessionManager;
+import com.volmit.holoui.utils.HoloClock;
+import com.volmit.holoui.utils.PacketUtils;
+import com.volmit.holoui.utils.Profiler;
 import com.volmit.holoui.utils.TextUtils;
 import io.github.retrooper.packetevents.factory.spigot.SpigotPacketEventsBuilder;
 import io.github.slimjar.app.builder.SpigotApplicationBuilder;
@@ -39,6 +43,7 @@ public final class HoloUI extends JavaPlugin {
     private HoloCommand command;
     private ConfigManager configManager;
     private MenuSessionManager sessionManager;
+    private HoloClock clock;
 
     private BuilderServer builderServer;
     private Metrics metrics;
@@ -87,6 +92,7 @@ public final class HoloUI extends JavaPlugin {
         PacketEvents.getAPI().init();
         TextUtils.splash(getLogger());
 
+        this.clock = new HoloClock(this, () -> HuiSettings.TICK_BUDGET.value());
         this.configManager = new ConfigManager(getDataFolder());
         this.commandManager = new PaperCommandManager(this);
         this.command = new HoloCommand();
@@ -95,6 +101,8 @@ public final class HoloUI extends JavaPlugin {
         commandManager.registerCommand(command);
 
         this.sessionManager = new MenuSessionManager();
+        Profiler.setEnabled(HuiSettings.PROFILER_ENABLED.value());
+        clock.every(1L, PacketUtils::flush);
 
         this.builderServer = new BuilderServer(getDataFolder());
         this.metrics = new Metrics(this, 24222);
@@ -102,8 +110,11 @@ public final class HoloUI extends JavaPlugin {
 
     @Override
     public void onDisable() {
+        clock.stop();
         configManager.shutdown();
-        sessionManager.destroyAll();
+        sessionManager.shutdown();
+        PacketUtils.flush();
+        Profiler.setEnabled(false);
         commandManager.unregisterCommands();
         PacketEvents.getAPI().terminate();
 
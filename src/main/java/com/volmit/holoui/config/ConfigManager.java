@@ -20,25 +20,36 @@ package com.volmit.holoui.config;
 import com.google.common.collect.Maps;
 import com.volmit.holoui.HoloUI;
 import com.volmit.holoui.OpenCommand;
+import com.volmit.holoui.utils.ImageAnimation;
+import com.volmit.holoui.utils.ImageCache;
+import com.volmit.holoui.utils.ImageUtils;
+import com.volmit.holoui.utils.Profiler;
 import com.volmit.holoui.utils.json.Json;
-import com.volmit.holoui.utils.SchedulerUtils;
 import com.volmit.holoui.utils.SimpleCommand;
 import com.volmit.holoui.utils.file.FolderWatcher;
 import lombok.Getter;
+import net.kyori.adventure.text.Component;
 import net.md_5.bungee.api.ChatMessageType;
 import net.md_5.bungee.api.chat.TextComponent;
 import org.apache.commons.imaging.ImageFormat;
+import org.apache.commons.imaging.ImageFormats;
 import org.apache.commons.imaging.Imaging;
+import org.apache.commons.imaging.formats.gif.DisposalMethod;
+import org.apache.commons.imaging.formats.gif.GifImageMetadata;
+import org.apache.commons.imaging.formats.gif.GifImageMetadataItem;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.bukkit.Sound;
 
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -47,10 +58,13 @@ import java.util.logging.Level;
 
 public final class ConfigManager {
 
+    private static final long IMAGE_CACHE_NODES = 200_000;
+
     private final Map<String, MenuDefinitionData> menuRegistry = Maps.newHashMap();
 
     private final File menuDir, imageDir;
     private final FolderWatcher menuDefinitionFolder;
+    private final ImageCache imageCache = new ImageCache(IMAGE_CACHE_NODES);
 
     @Getter
     private final HuiSettings settings;
@@ -72,7 +86,7 @@ public final class ConfigManager {
             }
         });
 
-        SchedulerUtils.scheduleSyncTask(HoloUI.INSTANCE, 5L, () -> {
+        HoloUI.INSTANCE.getClock().everyBudgeted(5L, () -> {
             if (menuDefinitionFolder.checkModifiedFast()) {
                 menuDefinitionFolder.getChanged().forEach(f -> {
                     String name = FilenameUtils.getBaseName(f.getName());
@@ -88,13 +102,13 @@ public final class ConfigManager {
                 });
             }
             settings.update();
-        }, true);
-        SchedulerUtils.scheduleSyncTask(HoloUI.INSTANCE, 20L, () -> {
+        });
+        HoloUI.INSTANCE.getClock().everyBudgeted(20L, () -> {
             if (menuDefinitionFolder.checkModified()) {
                 menuDefinitionFolder.getCreated().forEach(this::registerMenu);
                 menuDefinitionFolder.getDeleted().forEach(this::unregisterMenu);
             }
-        }, true);
+        });
     }
 
     private void registerMenu(File f) {
@@ -145,6 +159,79 @@ public final class ConfigManager {
         return Pair.of(format, Imaging.getBufferedImage(f));
     }
 
+    public List<Component> getImageLines(String relative) throws IOException {
+        File f = new File(imageDir, relative);
+        if (!f.exists() || f.isDirectory())
+            throw new FileNotFoundException();
+        return imageCache.get(f, file -> {
+            BufferedImage image = Imaging.getBufferedImage(file);
+            boolean transparency = Imaging.guessFormat(file) != ImageFormats.JPEG;
+            List<Component> lines = ImageUtils.toComponents(image, transparency);
+            if (Profiler.isEnabled()) {
+                long unmerged = ImageUtils.estimateUnmergedSize(image, transparency);
+                HoloUI.log(Level.INFO, "Converted image \"%s\", merging colour runs saved ~%d of %d bytes.", relative, unmerged - ImageUtils.estimateSize(lines), unmerged);
+            }
+            return lines;
+        });
+    }
+
+    // Decodes every frame once. GIFs are composited and keep their own frame delays, other images last speed ticks.
+    public ImageAnimation getAnimation(List<String> sources, int speed) throws IOException {
+        List<BufferedImage> frames = new ArrayList<>();
+        List<Integer> delays = new ArrayList<>();
+        for (String relative : sources) {
+            File f = new File(imageDir, relative);
+            if (!f.exists() || f.isDirectory())
+                throw new FileNotFoundException();
+            if (Imaging.guessFormat(f) == ImageFormats.GIF && Imaging.getMetadata(f) instanceof GifImageMetadata metadata) {
+                readGif(f, metadata, speed, frames, delays);
+            } else {
+                frames.add(Imaging.getBufferedImage(f));
+                delays.add(speed);
+            }
+        }
+        return ImageAnimation.of(frames, delays);
+    }
+
+    private void readGif(File f, GifImageMetadata metadata, int speed, List<BufferedImage> frames, List<Integer> delays) throws IOException {
+        List<BufferedImage> images = Imaging.getAllBufferedImages(f);
+        List<GifImageMetadataItem> items = metadata.getItems();
+        if (items.size() != images.size()) {
+            images.forEach(i -> {
+                frames.add(i);
+                delays.add(speed);
+            });
+            return;
+        }
+
+        BufferedImage canvas = new BufferedImage(metadata.getWidth(), metadata.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        for (int i = 0; i < images.size(); i++) {
+            BufferedImage image = images.get(i);
+            GifImageMetadataItem item = items.get(i);
+            BufferedImage previous = item.getDisposalMethod() == DisposalMethod.RESTORE_TO_PREVIOUS ? copy(canvas) : null;
+            Graphics2D g = canvas.createGraphics();
+            g.drawImage(image, item.getLeftPosition(), item.getTopPosition(), null);
+            frames.add(copy(canvas));
+            // GIF delays are in hundredths of a second, a tick is five of them.
+            delays.add(item.getDelay() > 0 ? Math.max(1, Math.round(item.getDelay() / 5F)) : speed);
+            if (item.getDisposalMethod() == DisposalMethod.RESTORE_TO_BACKGROUND) {
+                g.setComposite(AlphaComposite.Clear);
+                g.fillRect(item.getLeftPosition(), item.getTopPosition(), image.getWidth(), image.getHeight());
+            } else if (previous != null) {
+                canvas = previous;
+            }
+            g.dispose();
+        }
+    }
+
+    private static BufferedImage copy(BufferedImage image) {
+        BufferedImage copy = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = copy.createGraphics();
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return copy;
+    }
+
     public List<BufferedImage> getImages(String relative) throws IOException {
         File f = new File(imageDir, relative);
         if (!f.exists() || f.isDirectory())
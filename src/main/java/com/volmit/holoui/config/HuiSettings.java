@@ -18,6 +18,7 @@
 package com.volmit.holoui.config;
 
 import com.volmit.holoui.HoloUI;
+import com.volmit.holoui.utils.Profiler;
 import com.volmit.holoui.utils.settings.EntryType;
 import com.volmit.holoui.utils.settings.Settings;
 
@@ -36,6 +37,21 @@ public class HuiSettings extends Settings {
     public static final Entry<Boolean> PREVIEW_ENABLED = new Entry<>(EntryType.BOOLEAN, true, i -> {
     });
     public static final Entry<Boolean> PREVIEW_BY_PERMISSION = new Entry<>(EntryType.BOOLEAN, true, i -> {});
+    public static final Entry<Boolean> CULLING_ENABLED = new Entry<>(EntryType.BOOLEAN, true, b -> {
+    });
+    public static final Entry<Float> CULLING_ANGLE = new Entry<>(EntryType.FLOAT, 75F, f -> {
+    });
+    public static final Entry<Float> CULLING_DISTANCE = new Entry<>(EntryType.FLOAT, 48F, f -> {
+    });
+    public static final Entry<Float> TICK_BUDGET = new Entry<>(EntryType.FLOAT, 2F, f -> {
+    });
+    public static final Entry<Float> FOLLOW_THRESHOLD = new Entry<>(EntryType.FLOAT, .1F, f -> {
+    });
+    public static final Entry<Float> FOLLOW_SMOOTHING = new Entry<>(EntryType.FLOAT, .5F, f -> {
+    });
+    public static final Entry<Boolean> PROFILER_ENABLED = new Entry<>(EntryType.BOOLEAN, false, Profiler::setEnabled);
+    public static final Entry<String> RENDER_BACKEND = new Entry<>(EntryType.STRING, "auto", s -> {
+    });
 
     public HuiSettings(File configDir) {
         super(new File(configDir, "settings.json"));
@@ -51,5 +67,14 @@ public class HuiSettings extends Settings {
         registerField("previewFollowPlayer", PREVIEW_FOLLOW_PLAYER);
         registerField("previewEnabled", PREVIEW_ENABLED);
         registerField("previewByPermission", PREVIEW_BY_PERMISSION);
+
+        registerField("renderBackend", RENDER_BACKEND);
+        registerField("cullingEnabled", CULLING_ENABLED);
+        registerField("cullingAngle", CULLING_ANGLE);
+        registerField("cullingDistance", CULLING_DISTANCE);
+        registerField("tickBudgetMillis", TICK_BUDGET);
+        registerField("followThreshold", FOLLOW_THRESHOLD);
+        registerField("followSmoothing", FOLLOW_SMOOTHING);
+        registerField("profilerEnabled", PROFILER_ENABLED);
     }
 }
@@ -17,85 +17,277 @@
  */
 package com.volmit.holoui.menu;
 
-import com.volmit.holoui.utils.ArmorStand;
+import com.github.retrooper.packetevents.util.Vector3d;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerDestroyEntities;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerEntityTeleport;
+import com.volmit.holoui.utils.EntityIds;
+import com.volmit.holoui.utils.PacketEntity;
 import com.volmit.holoui.utils.PacketUtils;
+import com.volmit.holoui.utils.collection.IntList;
+import com.volmit.holoui.utils.collection.IntObjectMap;
+import lombok.Getter;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
 import org.bukkit.util.Vector;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntFunction;
 
 public class ArmorStandManager {
 
-    private static final Map<UUID, ArmorStand> armorStands = new HashMap<>();
-    private static final Map<UUID, Player> playerVisibility = new HashMap<>();
+    private static final Object LOCK = new Object();
+    private static final IntObjectMap<Entry> armorStands = new IntObjectMap<>(256);
 
-    public static UUID add(ArmorStand stand) {
-        UUID uuid = UUID.randomUUID();
-        armorStands.put(uuid, stand);
-        return uuid;
+    public static Handle handle(Player viewer) {
+        return new Handle(viewer);
     }
 
-    public static void spawn(UUID uuid, Player p) {
-        if (!armorStands.containsKey(uuid))
-            return;
+    public static int size() {
+        synchronized (LOCK) {
+            return armorStands.size();
+        }
+    }
+
+    public static void spawn(int id) {
+        synchronized (LOCK) {
+            Entry entry = armorStands.get(id);
+            if (entry == null)
+                return;
+            PacketUtils.send(entry.owner.viewers, entry.stand.spawn());
+            entry.spawned = true;
+        }
+    }
 
-        PacketUtils.send(p, armorStands.get(uuid).spawn());
-        playerVisibility.put(uuid, p);
+    public static void despawn(int id) {
+        synchronized (LOCK) {
+            Entry entry = armorStands.get(id);
+            if (entry == null || !entry.spawned)
+                return;
+            entry.spawned = false;
+            PacketUtils.send(entry.owner.viewers, entry.stand.remove());
+        }
     }
 
-    public static void despawn(UUID uuid) {
-        if (!armorStands.containsKey(uuid) || !playerVisibility.containsKey(uuid))
-            return;
-        PacketUtils.send(playerVisibility.remove(uuid), armorStands.get(uuid).remove());
+    public static void delete(int id) {
+        synchronized (LOCK) {
+            Entry entry = armorStands.remove(id);
+            if (entry == null)
+                return;
+            entry.owner.entries.remove(id);
+            if (entry.spawned)
+                PacketUtils.send(entry.owner.viewers, entry.stand.remove());
+            entry.owner.recycle(id);
+        }
     }
 
-    public static void delete(UUID uuid) {
-        if (!armorStands.containsKey(uuid))
-            return;
+    public static Vector location(int id) {
+        synchronized (LOCK) {
+            Entry entry = armorStands.get(id);
+            if (entry == null)
+                return new Vector();
+            return PacketUtils.vector(entry.stand.location());
+        }
+    }
 
-        despawn(uuid);
-        armorStands.remove(uuid);
-        playerVisibility.remove(uuid);
+    public static void goTo(int id, Location loc) {
+        synchronized (LOCK) {
+            Entry entry = armorStands.get(id);
+            if (entry == null)
+                return;
+            entry.send(entry.stand.goTo(loc));
+        }
     }
 
-    public static Vector location(UUID uuid) {
-        if (!armorStands.containsKey(uuid))
-            return new Vector();
+    public static void move(int id, Vector offset) {
+        synchronized (LOCK) {
+            Entry entry = armorStands.get(id);
+            if (entry == null)
+                return;
+            entry.send(entry.stand.move(offset));
+        }
+    }
 
-        return PacketUtils.vector(armorStands.get(uuid).location());
+    public static void changeName(int id, Component name) {
+        synchronized (LOCK) {
+            Entry entry = armorStands.get(id);
+            if (entry == null)
+                return;
+            entry.send(entry.stand.changeName(name));
+        }
     }
 
-    public static void goTo(UUID uuid, Location loc) {
-        if (!armorStands.containsKey(uuid))
-            return;
-        ArmorStand stand = armorStands.get(uuid);
-        PacketUtils.send(playerVisibility.get(uuid), stand.goTo(loc));
+    public static void changeItem(int id, ItemStack item) {
+        synchronized (LOCK) {
+            Entry entry = armorStands.get(id);
+            if (entry == null)
+                return;
+            entry.send(entry.stand.changeItem(item));
+        }
     }
 
-    public static void move(UUID uuid, Vector offset) {
-        if (!armorStands.containsKey(uuid))
-            return;
-        ArmorStand stand = armorStands.get(uuid);
-        PacketUtils.send(playerVisibility.get(uuid), stand.move(offset));
+    public static void rotate(int id, float yaw) {
+        synchronized (LOCK) {
+            Entry entry = armorStands.get(id);
+            if (entry == null)
+                return;
+            entry.send(entry.stand.rotate(yaw, entry.stand.pitch()));
+        }
+    }
+
+    public static void offsetFor(Player viewer, int id, Vector offset) {
+        synchronized (LOCK) {
+            Entry entry = armorStands.get(id);
+            if (entry == null || !entry.spawned)
+                return;
+            Vector3d location = entry.stand.location().add(PacketUtils.vector3d(offset));
+            PacketUtils.send(viewer, new WrapperPlayServerEntityTeleport(id, location, entry.stand.yaw(), entry.stand.pitch(), true));
+        }
+    }
+
+    private static final class Entry {
+        private final PacketEntity stand;
+        private final Handle owner;
+        private boolean spawned;
+
+        private Entry(PacketEntity stand, Handle owner) {
+            this.stand = stand;
+            this.owner = owner;
+        }
+
+        private void send(PacketWrapper<?> packet) {
+            if (spawned)
+                PacketUtils.send(owner.viewers, packet);
+        }
     }
 
-    public static void changeName(UUID uuid, Component name) {
-        if (!armorStands.containsKey(uuid))
-            return;
-        var packet = armorStands.get(uuid)
-                .displayName(name)
-                .dataPacket();
-        PacketUtils.send(playerVisibility.get(uuid), packet);
+    public static final class Handle {
+        @Getter
+        private final Player viewer;
+        private final List<Player> viewers = new CopyOnWriteArrayList<>();
+        private final List<Player> viewersView = Collections.unmodifiableList(viewers);
+        private final IntObjectMap<Entry> entries = new IntObjectMap<>();
+        private final IntList blocks = new IntList(2);
+        private final Queue<Recycled> recycled = new ArrayDeque<>();
+        private int nextInBlock = EntityIds.BLOCK_SIZE;
+        private boolean released;
+
+        private Handle(Player viewer) {
+            this.viewer = viewer;
+            this.viewers.add(viewer);
+        }
+
+        public List<Player> getViewers() {
+            return viewersView;
+        }
+
+        public boolean addViewer(Player player) {
+            synchronized (LOCK) {
+                if (released || viewers.contains(player))
+                    return false;
+                viewers.add(player);
+                entries.forEach((id, entry) -> {
+                    if (entry.spawned)
+                        PacketUtils.send(player, entry.stand.spawn());
+                });
+                return true;
+            }
+        }
+
+        public boolean removeViewer(Player player) {
+            synchronized (LOCK) {
+                if (player.equals(viewer) || !viewers.remove(player))
+                    return false;
+                IntList spawned = new IntList(entries.size());
+                entries.forEach((id, entry) -> {
+                    if (entry.spawned)
+                        spawned.add(id);
+                });
+                if (!spawned.isEmpty())
+                    PacketUtils.send(player, new WrapperPlayServerDestroyEntities(spawned.toArray()));
+                return true;
+            }
+        }
+
+        public int add(IntFunction<? extends PacketEntity> factory) {
+            synchronized (LOCK) {
+                if (released)
+                    throw new IllegalStateException("Handle has already been released");
+                PacketEntity stand = factory.apply(nextId());
+                Entry entry = new Entry(stand, this);
+                armorStands.put(stand.id(), entry);
+                entries.put(stand.id(), entry);
+                return stand.id();
+            }
+        }
+
+        public int size() {
+            synchronized (LOCK) {
+                return entries.size();
+            }
+        }
+
+        public void delete(IntList ids) {
+            synchronized (LOCK) {
+                IntList spawned = new IntList(ids.size());
+                ids.forEach(id -> {
+                    Entry entry = entries.remove(id);
+                    if (entry == null)
+                        return;
+                    armorStands.remove(id);
+                    if (entry.spawned)
+                        spawned.add(id);
+                    recycle(id);
+                });
+                if (!spawned.isEmpty())
+                    PacketUtils.send(viewers, new WrapperPlayServerDestroyEntities(spawned.toArray()));
+            }
+        }
+
+        public void release() {
+            synchronized (LOCK) {
+                if (released)
+                    return;
+                released = true;
+                IntList spawned = new IntList(entries.size());
+                entries.forEach((id, entry) -> {
+                    armorStands.remove(id);
+                    if (entry.spawned)
+                        spawned.add(id);
+                });
+                entries.clear();
+                if (!spawned.isEmpty())
+                    PacketUtils.send(viewers, new WrapperPlayServerDestroyEntities(spawned.toArray()));
+                blocks.forEach(EntityIds::releaseBlock);
+                blocks.clear();
+                recycled.clear();
+            }
+        }
+
+        private int nextId() {
+            Recycled head = recycled.peek();
+            if (head != null && head.until() <= System.currentTimeMillis())
+                return recycled.remove().id();
+            if (nextInBlock == EntityIds.BLOCK_SIZE) {
+                blocks.add(EntityIds.reserveBlock());
+                nextInBlock = 0;
+            }
+            return blocks.get(blocks.size() - 1) + nextInBlock++;
+        }
+
+        // An icon can still hold a deleted id, so it waits out the same quarantine as a released block.
+        private void recycle(int id) {
+            if (!released)
+                recycled.add(new Recycled(id, System.currentTimeMillis() + EntityIds.QUARANTINE_MILLIS));
+        }
     }
 
-    public static void rotate(UUID uuid, float yaw) {
-        if (!armorStands.containsKey(uuid))
-            return;
-        ArmorStand stand = armorStands.get(uuid);
-        PacketUtils.send(playerVisibility.get(uuid), stand.rotate(yaw, stand.pitch()));
+    private record Recycled(int id, long until) {
     }
 }
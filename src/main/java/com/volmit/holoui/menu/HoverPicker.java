@@ -0,0 +1,155 @@
+/*
+ * HoloUI is a holographic user interface for Minecraft Bukkit Servers
+ * Copyright (c) 2025 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.volmit.holoui.menu;
+
+import com.volmit.holoui.menu.components.ClickableComponent;
+import com.volmit.holoui.menu.components.MenuComponent;
+import com.volmit.holoui.utils.math.CollisionPlane;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class HoverPicker {
+
+    private static final double DEG_TO_RAD = Math.PI / 180;
+
+    private final MenuSession session;
+    private final Map<Player, ClickableComponent<?>> hovered = new HashMap<>();
+    private final List<ClickableComponent<?>> clickables = new ArrayList<>();
+
+    private boolean boundsDirty = true;
+    private double centerX, centerY, centerZ, radius = -1;
+
+    HoverPicker(MenuSession session) {
+        this.session = session;
+    }
+
+    public void invalidate() {
+        boundsDirty = true;
+    }
+
+    @Nullable
+    public ClickableComponent<?> getHovered(Player viewer) {
+        return hovered.get(viewer);
+    }
+
+    void removeViewer(Player viewer) {
+        hovered.remove(viewer);
+    }
+
+    void update() {
+        if (boundsDirty)
+            computeBounds();
+        boolean faced = false;
+        for (Player viewer : session.getViewers()) {
+            Location eye = session.getEyeSnapshot(viewer);
+            if (eye == null)
+                continue;
+            double yaw = eye.getYaw() * DEG_TO_RAD;
+            double pitch = eye.getPitch() * DEG_TO_RAD;
+            double xz = Math.cos(pitch);
+            double dx = -xz * Math.sin(yaw);
+            double dy = -Math.sin(pitch);
+            double dz = xz * Math.cos(yaw);
+
+            ClickableComponent<?> nearest = null;
+            if (hitsBounds(eye.getX(), eye.getY(), eye.getZ(), dx, dy, dz)) {
+                if (!faced) {
+                    Location owner = session.getEyeSnapshot(session.getPlayer());
+                    if (owner != null) {
+                        for (ClickableComponent<?> c : clickables) {
+                            if (isPickable(c))
+                                c.faceTowards(owner);
+                        }
+                    }
+                    faced = true;
+                }
+                double best = Double.MAX_VALUE;
+                for (ClickableComponent<?> c : clickables) {
+                    if (!isPickable(c))
+                        continue;
+                    double distance = c.getPlane().intersect(eye.getX(), eye.getY(), eye.getZ(), dx, dy, dz);
+                    if (distance >= 0 && distance < best) {
+                        best = distance;
+                        nearest = c;
+                    }
+                }
+            }
+
+            ClickableComponent<?> previous = nearest == null ? hovered.remove(viewer) : hovered.put(viewer, nearest);
+            if (previous != null && previous != nearest)
+                previous.setHovered(viewer, false);
+            if (nearest != null)
+                nearest.setHovered(viewer, true);
+        }
+    }
+
+    private boolean isPickable(ClickableComponent<?> c) {
+        return c.isOpen() && !c.isCulled() && c.getPlane() != null;
+    }
+
+    private boolean hitsBounds(double ox, double oy, double oz, double dx, double dy, double dz) {
+        if (radius < 0)
+            return false;
+        double cx = centerX - ox;
+        double cy = centerY - oy;
+        double cz = centerZ - oz;
+        double distanceSq = cx * cx + cy * cy + cz * cz;
+        double radiusSq = radius * radius;
+        if (distanceSq <= radiusSq)
+            return true;
+        double t = cx * dx + cy * dy + cz * dz;
+        return t >= 0 && distanceSq - t * t <= radiusSq;
+    }
+
+    // A sphere around every plane, independent of how the planes are turned.
+    private void computeBounds() {
+        boundsDirty = false;
+        clickables.clear();
+        for (MenuComponent<?> c : session.getComponents()) {
+            if (c instanceof ClickableComponent<?> clickable && clickable.getPlane() != null)
+                clickables.add(clickable);
+        }
+        radius = -1;
+        if (clickables.isEmpty())
+            return;
+
+        double x = 0, y = 0, z = 0;
+        for (ClickableComponent<?> c : clickables) {
+            CollisionPlane plane = c.getPlane();
+            x += plane.getCenterX();
+            y += plane.getCenterY();
+            z += plane.getCenterZ();
+        }
+        centerX = x / clickables.size();
+        centerY = y / clickables.size();
+        centerZ = z / clickables.size();
+        for (ClickableComponent<?> c : clickables) {
+            CollisionPlane plane = c.getPlane();
+            double px = plane.getCenterX() - centerX;
+            double py = plane.getCenterY() - centerY;
+            double pz = plane.getCenterZ() - centerZ;
+            radius = Math.max(radius, Math.sqrt(px * px + py * py + pz * pz) + plane.getBoundingRadius());
+        }
+    }
+}
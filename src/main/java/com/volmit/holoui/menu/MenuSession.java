@@ -18,20 +18,32 @@
 package com.volmit.holoui.menu;
 
 import com.google.common.collect.Lists;
+import com.volmit.holoui.config.HuiSettings;
 import com.volmit.holoui.config.MenuDefinitionData;
+import com.volmit.holoui.menu.components.ClickableComponent;
 import com.volmit.holoui.menu.components.MenuComponent;
 import com.volmit.holoui.utils.math.MathHelper;
 import lombok.Getter;
+import lombok.Setter;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.util.Vector;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @Getter
 public class MenuSession {
 
+    private static final int IDLE_AFTER_TICKS = 10;
+    private static final int IDLE_INTERVAL = 10;
+    private static final int RATE_WINDOW = 20;
+    private static final double EYE_MOVE_EPSILON_SQ = 1.0E-6;
+    private static final float EYE_TURN_EPSILON = .05F;
+
     private final String id;
     private final Player player;
     private final boolean freezePlayer, followPlayer;
@@ -40,9 +52,19 @@ public class MenuSession {
     private final double offsetDistance;
     private final Vector offset;
     private final List<MenuComponent<?>> components;
+    private final ArmorStandManager.Handle entities;
+    private final HoverPicker picker = new HoverPicker(this);
 
     protected Location centerPoint;
     protected float initialY = Float.NaN;
+    @Setter
+    private Map<Player, Location> eyes = Map.of();
+    private Map<Player, Location> lastEyes = Map.of();
+    private Location followTarget;
+    private boolean followMoving;
+    private volatile boolean dirty = true;
+    private int idleTicks;
+    private int rateHistory;
 
     public MenuSession(MenuDefinitionData data, Player p) {
         this.id = data.getId();
@@ -56,12 +78,53 @@ public class MenuSession {
         this.offsetDistance = offset.lengthSquared();
 
         this.centerPoint = p.getLocation().clone().add(offset);
+        this.entities = ArmorStandManager.handle(p);
         this.components = Lists.newArrayList();
         data.getComponents().forEach(a -> components.add(a.createComponent(this)));
         components.removeIf(Objects::isNull);
     }
 
+    public void follow(Location loc) {
+        Location previous = followTarget;
+        // Looking around fires move events too, only a changed position counts as still moving.
+        this.followMoving = previous == null || previous.getX() != loc.getX() || previous.getY() != loc.getY() || previous.getZ() != loc.getZ();
+        this.followTarget = loc.clone();
+    }
+
+    // Applies the latest followed position once per tick, easing towards it and ignoring tiny steps.
+    public void applyFollow() {
+        Location target = followTarget;
+        if (target == null)
+            return;
+        boolean moving = followMoving;
+        followMoving = false;
+        Location anchor = getCenterNoOffset();
+        if (!Objects.equals(target.getWorld(), anchor.getWorld())) {
+            move(target, true);
+            return;
+        }
+        double threshold = HuiSettings.FOLLOW_THRESHOLD.value();
+        if (anchor.distanceSquared(target) <= threshold * threshold) {
+            // Tiny steps wait while the player keeps moving, once they stop the menu settles on them exactly.
+            if (!moving)
+                move(target, true);
+            return;
+        }
+        double smoothing = Math.max(.05, Math.min(1, HuiSettings.FOLLOW_SMOOTHING.value()));
+        Location next = target.clone();
+        next.setX(anchor.getX() + (target.getX() - anchor.getX()) * smoothing);
+        next.setY(anchor.getY() + (target.getY() - anchor.getY()) * smoothing);
+        next.setZ(anchor.getZ() + (target.getZ() - anchor.getZ()) * smoothing);
+        if (next.distanceSquared(target) <= threshold * threshold)
+            next = target;
+        move(next, true);
+        if (next != target)
+            followTarget = target;
+    }
+
     public void move(Location loc, boolean byPlayer) {
+        markDirty();
+        followTarget = null;
         this.centerPoint = loc.add(offset);
         components.forEach(c -> {
             c.move(this.centerPoint.clone());
@@ -73,17 +136,116 @@ public class MenuSession {
         components.forEach(c -> c.adjustRotation(byPlayer));
     }
 
+    public void tick() {
+        picker.update();
+        components.forEach(MenuComponent::tick);
+    }
+
     public void rotate(float yaw) {
+        markDirty();
         components.forEach(c -> c.rotate(yaw));
     }
 
     public void open() {
+        markDirty();
         this.initialY = -player.getEyeLocation().getYaw();
         components.forEach(c -> c.open(true));
     }
 
     public void close() {
         components.forEach(MenuComponent::close);
+        entities.release();
+    }
+
+    public void markDirty() {
+        dirty = true;
+    }
+
+    public boolean shouldTick() {
+        boolean active = dirty || eyesMoved();
+        dirty = false;
+        lastEyes = eyes;
+        if (active || requiresFullRate())
+            idleTicks = 0;
+        else
+            idleTicks++;
+        boolean tick = idleTicks < IDLE_AFTER_TICKS || idleTicks % IDLE_INTERVAL == 0;
+        rateHistory = ((rateHistory << 1) | (tick ? 1 : 0)) & ((1 << RATE_WINDOW) - 1);
+        return tick;
+    }
+
+    public int getTickRate() {
+        return Integer.bitCount(rateHistory) * 20 / RATE_WINDOW;
+    }
+
+    private boolean requiresFullRate() {
+        for (MenuComponent<?> c : components) {
+            if (c.requiresFullRate())
+                return true;
+        }
+        return false;
+    }
+
+    private boolean eyesMoved() {
+        for (Player viewer : getViewers()) {
+            Location eye = eyes.get(viewer);
+            Location last = lastEyes.get(viewer);
+            if (eye == null || last == null || eye.getWorld() != last.getWorld())
+                return true;
+            double dx = eye.getX() - last.getX();
+            double dy = eye.getY() - last.getY();
+            double dz = eye.getZ() - last.getZ();
+            if (dx * dx + dy * dy + dz * dz > EYE_MOVE_EPSILON_SQ
+                    || Math.abs(eye.getYaw() - last.getYaw()) > EYE_TURN_EPSILON
+                    || Math.abs(eye.getPitch() - last.getPitch()) > EYE_TURN_EPSILON)
+                return true;
+        }
+        return false;
+    }
+
+    // Off the main thread a viewer without a snapshot is skipped until the next one, live entity state is not read there.
+    @Nullable
+    public Location getEyeLocation(Player viewer) {
+        Location eye = eyes.get(viewer);
+        if (eye != null)
+            return eye.clone();
+        return Bukkit.isPrimaryThread() ? viewer.getEyeLocation() : null;
+    }
+
+    // Shared with every component of this tick, callers must not modify it.
+    @Nullable
+    public Location getEyeSnapshot(Player viewer) {
+        Location eye = eyes.get(viewer);
+        if (eye != null || !Bukkit.isPrimaryThread())
+            return eye;
+        return viewer.getEyeLocation();
+    }
+
+    public List<Player> getViewers() {
+        return entities.getViewers();
+    }
+
+    public boolean addViewer(Player viewer) {
+        markDirty();
+        return entities.addViewer(viewer);
+    }
+
+    public boolean removeViewer(Player viewer) {
+        markDirty();
+        if (!entities.removeViewer(viewer))
+            return false;
+        components.forEach(c -> {
+            if (c instanceof ClickableComponent<?> clickable)
+                clickable.removeViewer(viewer);
+        });
+        picker.removeViewer(viewer);
+        return true;
+    }
+
+    public boolean click(Player viewer) {
+        markDirty();
+        ClickableComponent<?> target = picker.getHovered(viewer);
+        return target != null && target.click(viewer);
     }
 
     public Location getCenterInitialYAdjusted() {
@@ -94,6 +256,11 @@ public class MenuSession {
         return this.centerPoint.clone().subtract(offset);
     }
 
+    // The eye above the anchor rather than the live one, so an eased anchor keeps its lag behind the player unrotated.
+    public Location getRotationPivot() {
+        return getCenterNoOffset().add(0, player.getEyeHeight(), 0);
+    }
+
     public void rotateCenter() {
         MathHelper.rotateAroundPoint(this.centerPoint, getCenterNoOffset(), 0, initialY);
         getComponents().forEach(c -> c.move(this.centerPoint.clone()));
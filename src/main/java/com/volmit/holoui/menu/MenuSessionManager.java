@@ -23,9 +23,10 @@ import com.volmit.holoui.config.MenuDefinitionData;
 import com.volmit.holoui.menu.components.ClickableComponent;
 import com.volmit.holoui.menu.special.BlockMenuSession;
 import com.volmit.holoui.menu.special.inventories.InventoryPreviewMenu;
+import com.volmit.holoui.menu.special.inventories.InventoryWatcher;
 import com.volmit.holoui.utils.Events;
+import com.volmit.holoui.utils.HoloClock;
 import com.volmit.holoui.utils.ParticleUtils;
-import com.volmit.holoui.utils.SchedulerUtils;
 import org.bukkit.Color;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -34,25 +35,46 @@ import org.bukkit.block.Block;
 import org.bukkit.block.Container;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventPriority;
+import org.bukkit.event.block.Action;
 import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.player.*;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.logging.Level;
 
 public final class MenuSessionManager {
 
+    private static final int HOUSEKEEPING_SLOTS = 20;
+    private static final long RENDERER_JOIN_TIMEOUT = 1000;
+
     private final Map<Player, SessionHolder> holders = new ConcurrentHashMap<>();
+    private final Map<Player, Set<SessionHolder>> shared = new ConcurrentHashMap<>();
+    private final SessionRenderer renderer = new SessionRenderer(holders.values());
+
+    private final HoloClock.Wheel<SessionHolder> housekeeping;
 
-    private BukkitTask debugHitbox, debugPos;
+    private HoloClock.Task debugHitbox, debugPos;
 
     public MenuSessionManager() {
         controlHitboxDebug(HuiSettings.DEBUG_HITBOX.value());
         controlPositionDebug(HuiSettings.DEBUG_SPACING.value());
-        SchedulerUtils.scheduleSyncTask(HoloUI.INSTANCE, 1L, () -> holders.values().removeIf(SessionHolder::tick), false);
+        renderer.start();
+        HoloClock clock = HoloUI.INSTANCE.getClock();
+        this.housekeeping = clock.wheel(HOUSEKEEPING_SLOTS, holder -> {
+            if (!holder.tick()) return false;
+            holders.remove(holder.getPlayer(), holder);
+            return true;
+        });
+        clock.every(1L, () -> {
+            holders.values().forEach(SessionHolder::tickFollow);
+            holders.values().forEach(SessionHolder::tickPreview);
+            Map<Player, Location> eyes = new HashMap<>();
+            holders.values().forEach(h -> h.captureEyes(eyes));
+            renderer.submit(Collections.unmodifiableMap(eyes));
+        });
         Events.listen(PlayerMoveEvent.class, EventPriority.HIGHEST, e -> {
             if (e.isCancelled() || e.getTo() == null) return;
             SessionHolder holder = holders.get(e.getPlayer());
@@ -80,7 +102,7 @@ public final class MenuSessionManager {
                 }
 
                 if (s.isFollowPlayer()) {
-                    s.move(e.getTo().clone(), true);
+                    s.follow(e.getTo());
                 }
             });
         });
@@ -108,9 +130,16 @@ public final class MenuSessionManager {
                 else s.move(e.getTo().clone(), true);
             });
         });
+        Events.listen(PlayerInteractEvent.class, EventPriority.MONITOR, e -> {
+            if (e.getAction() != Action.LEFT_CLICK_AIR && e.getAction() != Action.LEFT_CLICK_BLOCK) return;
+            if (click(e.getPlayer()))
+                e.setCancelled(true);
+        });
         Events.listen(PlayerQuitEvent.class, e -> {
+            shared.remove(e.getPlayer());
             SessionHolder holder = holders.get(e.getPlayer());
             if (holder == null) return;
+            forgetShares(holder);
             holder.close();
         });
         listenToInventoryPreview();
@@ -131,22 +160,98 @@ public final class MenuSessionManager {
     }
 
     public void createNewSession(Player p, MenuDefinitionData menu) {
-        holders.computeIfAbsent(p, SessionHolder::new).openSession(menu);
+        holder(p).openSession(menu);
+    }
+
+    public boolean shareSession(Player owner, Player viewer) {
+        SessionHolder holder = holders.get(owner);
+        if (holder == null || owner.equals(viewer)) return false;
+        if (!holder.testSession(s -> s != null && s.addViewer(viewer))) return false;
+        shared.computeIfAbsent(viewer, p -> ConcurrentHashMap.newKeySet()).add(holder);
+        return true;
+    }
+
+    public boolean unshareSession(Player owner, Player viewer) {
+        SessionHolder holder = holders.get(owner);
+        if (holder == null) return false;
+        forgetShare(viewer, holder);
+        return holder.testSession(s -> s != null && s.removeViewer(viewer));
+    }
+
+    private void forgetShare(Player viewer, SessionHolder holder) {
+        shared.computeIfPresent(viewer, (p, owners) -> {
+            owners.remove(holder);
+            return owners.isEmpty() ? null : owners;
+        });
+    }
+
+    private void forgetShares(SessionHolder holder) {
+        shared.keySet().forEach(viewer -> forgetShare(viewer, holder));
+    }
+
+    // The clicker's own menu goes first, then every menu shared with them.
+    private boolean click(Player p) {
+        SessionHolder own = holders.get(p);
+        if (own != null && own.testSession(s -> s != null && s.click(p)))
+            return true;
+        Set<SessionHolder> owners = shared.get(p);
+        if (owners == null)
+            return false;
+        for (SessionHolder holder : owners) {
+            // Shares end silently when the owner's menu closes, those are dropped here.
+            if (!holder.testSession(s -> s != null && s.getViewers().contains(p))) {
+                forgetShare(p, holder);
+                continue;
+            }
+            if (holder.testSession(s -> s != null && s.click(p)))
+                return true;
+        }
+        return false;
     }
 
     public void addPreviewSession(Player p, BlockMenuSession session) {
-        holders.computeIfAbsent(p, SessionHolder::new).openPreview(session);
+        holder(p).openPreview(session);
     }
 
     public boolean destroySession(Player p, boolean history) {
         SessionHolder holder = holders.get(p);
         if (holder == null) return false;
+        forgetShares(holder);
         return holder.closeSession(history);
     }
 
     public void destroyAll() {
-        holders.forEach((k, v) -> v.close());
+        holders.forEach((k, v) -> {
+            v.close();
+            housekeeping.remove(v);
+        });
         holders.clear();
+        shared.clear();
+    }
+
+    public void shutdown() {
+        renderer.interrupt();
+        try {
+            renderer.join(RENDERER_JOIN_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (renderer.isAlive())
+            HoloUI.log(Level.WARNING, "The menu renderer did not stop within %dms.", RENDERER_JOIN_TIMEOUT);
+        destroyAll();
+    }
+
+    public List<MenuSession> getSessions() {
+        List<MenuSession> sessions = new ArrayList<>();
+        holders.values().forEach(h -> {
+            h.onSession(s -> {
+                if (s != null) sessions.add(s);
+            });
+            h.onPreview(p -> {
+                if (p != null) sessions.add(p);
+            });
+        });
+        return sessions;
     }
 
     public void destroyAllType(String id, Consumer<Player> consumer) {
@@ -157,15 +262,23 @@ public final class MenuSessionManager {
         }));
     }
 
+    private SessionHolder holder(Player p) {
+        return holders.computeIfAbsent(p, player -> {
+            SessionHolder holder = new SessionHolder(player);
+            housekeeping.add(holder);
+            return holder;
+        });
+    }
+
     public void controlHitboxDebug(boolean hitbox) {
         if (hitbox && (debugHitbox == null || debugHitbox.isCancelled())) {
-            debugHitbox = SchedulerUtils.scheduleSyncTask(HoloUI.INSTANCE, 2L, () -> holders.forEach((player, holder) -> holder.onSession(session -> {
+            debugHitbox = HoloUI.INSTANCE.getClock().everyBudgeted(2L, () -> holders.forEach((player, holder) -> holder.onSession(session -> {
                 if (session == null) return;
                 session.getComponents().forEach(c -> {
                     if (c instanceof ClickableComponent<?> o)
                         o.highlightHitbox(player.getWorld());
                 });
-            })), false);
+            })));
         } else if (!hitbox && (debugHitbox != null && !debugHitbox.isCancelled()))
             debugHitbox.cancel();
     }
@@ -173,7 +286,7 @@ public final class MenuSessionManager {
     //TODO Fix anchor particle
     public void controlPositionDebug(boolean positionDebug) {
         if (positionDebug && (debugPos == null || debugPos.isCancelled())) {
-            debugPos = SchedulerUtils.scheduleSyncTask(HoloUI.INSTANCE, 2L, () -> holders.forEach((player, holder) -> {
+            debugPos = HoloUI.INSTANCE.getClock().everyBudgeted(2L, () -> holders.forEach((player, holder) -> {
                 World world = player.getWorld();
                 holder.onSession(s -> {
                     if (s == null) return;
@@ -185,7 +298,7 @@ public final class MenuSessionManager {
                     ParticleUtils.playParticle(world, p.getCenterPoint().toVector(), Color.YELLOW);
                     p.getComponents().forEach(c -> ParticleUtils.playParticle(world, c.getLocation().toVector(), Color.ORANGE));
                 });
-            }), false);
+            }));
         } else if (!positionDebug && (debugPos != null && !debugPos.isCancelled()))
             debugPos.cancel();
     }
@@ -193,13 +306,14 @@ public final class MenuSessionManager {
     private void listenToInventoryPreview() {
         Events.listen(PlayerToggleSneakEvent.class, EventPriority.MONITOR, e -> managePreviewEvents(e.getPlayer()));
         Events.listen(PlayerMoveEvent.class, EventPriority.MONITOR, e -> managePreviewEvents(e.getPlayer()));
+        InventoryWatcher.listen();
     }
 
     private void managePreviewEvents(Player p) {
         if (!p.isSneaking()) return;
         try {
-            Block b = p.getTargetBlock(null, 10);
-            SessionHolder holder = holders.computeIfAbsent(p, SessionHolder::new);
+            SessionHolder holder = holder(p);
+            Block b = holder.getTargetBlock();
             holder.onPreview(preview -> {
                 if (preview == null) {
                     createNewPreviewSession(b, p);
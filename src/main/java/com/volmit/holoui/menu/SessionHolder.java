@@ -1,18 +1,27 @@
 package com.volmit.holoui.menu;
 
+import com.volmit.holoui.HoloUI;
 import com.volmit.holoui.config.MenuDefinitionData;
-import com.volmit.holoui.menu.components.MenuComponent;
 import com.volmit.holoui.menu.special.BlockMenuSession;
+import com.volmit.holoui.utils.Profiler;
 import com.volmit.holoui.utils.math.MathHelper;
 import lombok.Synchronized;
+import org.bukkit.Location;
+import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 class SessionHolder {
+    private static final int TARGET_RANGE = 10;
+    private static final int TARGET_MAX_AGE = 10;
+    private static final double TARGET_MOVE_EPSILON_SQ = 1.0E-4;
+    private static final float TARGET_TURN_EPSILON = .1F;
+
     private final Object sessionLock = new Object();
     private final Object previewLock = new Object();
 
@@ -21,10 +30,37 @@ class SessionHolder {
     private transient BlockMenuSession preview;
     private transient String lastSession;
 
+    private Location targetEye;
+    private Block targetBlock;
+    private long targetTick;
+
     SessionHolder(Player player) {
         this.player = player;
     }
 
+    Player getPlayer() {
+        return player;
+    }
+
+    // Shared by the move listener and the preview tick, raycasts again once the eye moved or the result is stale.
+    Block getTargetBlock() {
+        long tick = HoloUI.INSTANCE.getClock().getTick();
+        Location eye = player.getEyeLocation();
+        if (targetBlock != null && (tick == targetTick || tick - targetTick < TARGET_MAX_AGE && !eyeMoved(eye)))
+            return targetBlock;
+        targetBlock = player.getTargetBlock(null, TARGET_RANGE);
+        targetEye = eye;
+        targetTick = tick;
+        return targetBlock;
+    }
+
+    private boolean eyeMoved(Location eye) {
+        return eye.getWorld() != targetEye.getWorld()
+                || eye.distanceSquared(targetEye) > TARGET_MOVE_EPSILON_SQ
+                || Math.abs(eye.getYaw() - targetEye.getYaw()) > TARGET_TURN_EPSILON
+                || Math.abs(eye.getPitch() - targetEye.getPitch()) > TARGET_TURN_EPSILON;
+    }
+
     @Synchronized("sessionLock")
     void openSession(MenuDefinitionData data) {
         if (!player.isOnline()) return;
@@ -47,27 +83,56 @@ class SessionHolder {
             return true;
         }
 
-
         synchronized (sessionLock) {
             if (session != null) {
-                session.getComponents().forEach(MenuComponent::tick);
+                for (Player viewer : session.getViewers()) {
+                    if (!viewer.isOnline())
+                        session.removeViewer(viewer);
+                }
             }
         }
+        return false;
+    }
 
+    void tickPreview() {
+        if (!player.isOnline()) return;
         synchronized (previewLock) {
             if (preview != null) {
-                if (!player.isSneaking() || !preview.shouldRender(preview.getPlayer().getTargetBlock(null, 10))) {
+                if (!player.isSneaking() || !preview.shouldRender(getTargetBlock())) {
                     preview.close();
                     preview = null;
                 } else {
+                    long start = Profiler.start();
                     Vector dir = player.getEyeLocation().getDirection();
                     preview.rotate(-(float) MathHelper.getRotationFromDirection(dir).getY());
                     preview.move(player.getEyeLocation().clone().add(dir.multiply(2F)), false);
-                    preview.getComponents().forEach(MenuComponent::tick);
+                    preview.tick();
+                    Profiler.record(Profiler.Section.SESSION_TICK, preview.getId(), start);
                 }
             }
         }
-        return false;
+    }
+
+    @Synchronized("sessionLock")
+    void tickFollow() {
+        if (session != null) session.applyFollow();
+    }
+
+    @Synchronized("sessionLock")
+    void captureEyes(Map<Player, Location> eyes) {
+        if (session == null) return;
+        for (Player viewer : session.getViewers())
+            eyes.computeIfAbsent(viewer, Player::getEyeLocation);
+    }
+
+    @Synchronized("sessionLock")
+    void render(Map<Player, Location> eyes) {
+        if (session == null) return;
+        session.setEyes(eyes);
+        if (!session.shouldTick()) return;
+        long start = Profiler.start();
+        session.tick();
+        Profiler.record(Profiler.Section.SESSION_TICK, session.getId(), start);
     }
 
     @Synchronized("sessionLock")
@@ -96,6 +161,11 @@ class SessionHolder {
         action.accept(session);
     }
 
+    @Synchronized("sessionLock")
+    boolean testSession(Predicate<@Nullable MenuSession> predicate) {
+        return predicate.test(session);
+    }
+
     @Synchronized("previewLock")
     void onPreview(Consumer<@Nullable BlockMenuSession> action) {
         action.accept(preview);
@@ -0,0 +1,67 @@
+/*
+ * HoloUI is a holographic user interface for Minecraft Bukkit Servers
+ * Copyright (c) 2025 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.volmit.holoui.menu;
+
+import com.volmit.holoui.HoloUI;
+import com.volmit.holoui.utils.Looper;
+import com.volmit.holoui.utils.PacketUtils;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+import java.util.Map;
+
+final class SessionRenderer extends Looper {
+
+    private static final long IDLE_SLEEP = 1;
+
+    private final Collection<SessionHolder> holders;
+    private volatile Map<Player, Location> snapshot;
+    private Map<Player, Location> rendered;
+
+    SessionRenderer(Collection<SessionHolder> holders) {
+        this.holders = holders;
+        setName("HoloUI Renderer");
+        setDaemon(true);
+    }
+
+    void submit(Map<Player, Location> eyes) {
+        this.snapshot = eyes;
+    }
+
+    @Override
+    protected long loop() {
+        Map<Player, Location> eyes = snapshot;
+        if (eyes == null || eyes == rendered)
+            return IDLE_SLEEP;
+        rendered = eyes;
+        PacketUtils.beginBatch();
+        try {
+            for (SessionHolder holder : holders) {
+                try {
+                    holder.render(eyes);
+                } catch (Throwable e) {
+                    HoloUI.logExceptionStack(true, e, "An error occurred while rendering a menu session:");
+                }
+            }
+        } finally {
+            PacketUtils.commitBatch();
+        }
+        return 0;
+    }
+}
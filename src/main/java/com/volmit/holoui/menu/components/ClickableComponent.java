@@ -20,26 +20,27 @@ package com.volmit.holoui.menu.components;
 import com.volmit.holoui.config.MenuComponentData;
 import com.volmit.holoui.config.components.ComponentData;
 import com.volmit.holoui.menu.MenuSession;
-import com.volmit.holoui.utils.Events;
 import com.volmit.holoui.utils.ParticleUtils;
 import com.volmit.holoui.utils.math.CollisionPlane;
 import com.volmit.holoui.utils.math.MathHelper;
+import lombok.Getter;
 import org.bukkit.Color;
 import org.bukkit.Location;
 import org.bukkit.World;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.block.Action;
-import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.entity.Player;
 import org.bukkit.util.Vector;
 
+import java.util.HashSet;
+import java.util.Set;
+
 public abstract class ClickableComponent<T extends ComponentData> extends MenuComponent<T> {
 
     private final float highlightMod;
 
-    protected CollisionPlane plane;
-    protected boolean selected;
+    private final Set<Player> hoveringViewers = new HashSet<>();
 
-    private Events click;
+    @Getter
+    protected CollisionPlane plane;
 
     public ClickableComponent(MenuSession session, MenuComponentData data, float highlightMod) {
         super(session, data);
@@ -48,42 +49,67 @@ public abstract class ClickableComponent<T extends ComponentData> extends MenuCo
 
     public abstract void onClick();
 
+    public boolean click(Player viewer) {
+        if (!open || !hoveringViewers.contains(viewer))
+            return false;
+        onClick();
+        return true;
+    }
+
     @Override
     public void onOpen() {
         this.plane = currentIcon.createBoundingBox();
-        click = Events.listen(PlayerInteractEvent.class, EventPriority.MONITOR, e -> {
-            if (session.getPlayer().equals(e.getPlayer()) && selected) {
-                if (e.getAction() == Action.LEFT_CLICK_AIR || e.getAction() == Action.LEFT_CLICK_BLOCK) {
-                    onClick();
-                    e.setCancelled(true);
-                }
-            }
-        });
+        session.getPicker().invalidate();
     }
 
     @Override
     protected void onTick() {
-        Location playerPos = session.getPlayer().getEyeLocation().clone();
-        rotateToFace(playerPos);
-        boolean isLookingAt = plane.isLookingAt(playerPos.toVector(), playerPos.getDirection());
-        if (isLookingAt && !selected) {
-            this.selected = true;
-            currentIcon.move(plane.getNormal().clone().multiply(highlightMod));
-        } else if (!isLookingAt && selected) {
-            this.selected = false;
-            currentIcon.teleport(location);
-        }
+    }
+
+    // Highlights are offsets sent to each viewer on its own, the shared entities never move for a hover.
+    public void setHovered(Player viewer, boolean hovering) {
+        if (hovering && hoveringViewers.add(viewer))
+            currentIcon.showFor(viewer, highlightLocation());
+        else if (!hovering && hoveringViewers.remove(viewer))
+            currentIcon.showFor(viewer, location);
+    }
+
+    public void faceTowards(Location eye) {
+        if (plane.faceTowards(eye.getX(), eye.getY(), eye.getZ()))
+            refreshHighlight();
+    }
+
+    // Shared teleports and respawns reset every viewer's offset, so hovering viewers get theirs again.
+    protected void refreshHighlight() {
+        if (hoveringViewers.isEmpty() || currentIcon == null || plane == null)
+            return;
+        Location highlight = highlightLocation();
+        hoveringViewers.forEach(viewer -> currentIcon.showFor(viewer, highlight));
+    }
+
+    private Location highlightLocation() {
+        return location.clone().add(plane.getNormal().multiply(highlightMod));
     }
 
     @Override
     public void onClose() {
-        click.unregister();
+        hoveringViewers.clear();
+    }
+
+    @Override
+    protected void onCull() {
+        hoveringViewers.clear();
+    }
+
+    public void removeViewer(Player viewer) {
+        hoveringViewers.remove(viewer);
     }
 
     @Override
     public void move(Location loc) {
         super.move(loc);
         this.plane.move(location);
+        session.getPicker().invalidate();
     }
 
     @Override
@@ -91,6 +117,8 @@ public abstract class ClickableComponent<T extends ComponentData> extends MenuCo
         super.adjustRotation(byPlayer);
         if (this.plane != null) {
             this.plane.move(location);
+            session.getPicker().invalidate();
+            refreshHighlight();
         }
     }
 
@@ -114,11 +142,4 @@ public abstract class ClickableComponent<T extends ComponentData> extends MenuCo
         ParticleUtils.playParticle(w, upLeft, Color.BLUE);
     }
 
-    private void rotateToFace(Location loc) {
-        Vector rotation = MathHelper.getRotationFromDirection(MathHelper.unit(loc.toVector(), plane.getCenter()));
-        plane.rotate((float) rotation.getX(), (float) -rotation.getY());
-        if (selected)
-            currentIcon.teleport(location.clone().add(plane.getNormal()));
-    }
-
 }
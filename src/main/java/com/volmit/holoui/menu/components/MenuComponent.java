@@ -17,18 +17,25 @@
  */
 package com.volmit.holoui.menu.components;
 
+import com.volmit.holoui.config.HuiSettings;
 import com.volmit.holoui.config.MenuComponentData;
 import com.volmit.holoui.config.components.ComponentData;
 import com.volmit.holoui.menu.MenuSession;
 import com.volmit.holoui.menu.icon.MenuIcon;
 import com.volmit.holoui.menu.special.BlockMenuSession;
+import com.volmit.holoui.utils.Profiler;
 import com.volmit.holoui.utils.math.MathHelper;
 import lombok.Getter;
 import org.bukkit.Location;
+import org.bukkit.entity.Player;
 import org.bukkit.util.Vector;
 
 public abstract class MenuComponent<T extends ComponentData> {
 
+    private static final float CULL_ANGLE_MARGIN = 5F;
+    private static final float CULL_DISTANCE_MARGIN = 2F;
+    private static final float CULL_NEAR_DISTANCE = 1.5F;
+
     protected final MenuSession session;
     protected final Vector offset;
     protected final T data;
@@ -42,6 +49,8 @@ public abstract class MenuComponent<T extends ComponentData> {
 
     @Getter
     protected boolean open = false;
+    @Getter
+    protected boolean culled = false;
 
     @SuppressWarnings("unchecked")
     public MenuComponent(MenuSession session, MenuComponentData data) {
@@ -55,9 +64,12 @@ public abstract class MenuComponent<T extends ComponentData> {
 
     public void tick() {
         if (!open) return;
+        if (updateCulling()) return;
+        long start = Profiler.start();
         onTick();
         if (currentIcon != null)
             currentIcon.tick();
+        Profiler.record(Profiler.Section.COMPONENT_TICK, session.getId(), start);
     }
 
     protected abstract void onTick();
@@ -78,6 +90,7 @@ public abstract class MenuComponent<T extends ComponentData> {
 
     public void close() {
         open = false;
+        culled = false;
         if (this.currentIcon != null)
             this.currentIcon.remove();
         onClose();
@@ -101,8 +114,71 @@ public abstract class MenuComponent<T extends ComponentData> {
             this.currentIcon.rotate(yaw);
     }
 
+    protected void onCull() {
+    }
+
+    public boolean requiresFullRate() {
+        return open && !culled && currentIcon != null && currentIcon.isAnimated();
+    }
+
+    private boolean updateCulling() {
+        if (!HuiSettings.CULLING_ENABLED.value() || currentIcon == null) {
+            if (culled && currentIcon != null) {
+                culled = false;
+                currentIcon.show();
+            }
+            return false;
+        }
+
+        // Widen the cone and range once visible so components on the edge don't flicker.
+        float distance = HuiSettings.CULLING_DISTANCE.value() + (culled ? -CULL_DISTANCE_MARGIN : CULL_DISTANCE_MARGIN);
+        double minCos = CullCone.of(HuiSettings.CULLING_ANGLE.value()).minCos(culled);
+        boolean visible = false;
+        for (Player viewer : session.getViewers()) {
+            Location eye = session.getEyeSnapshot(viewer);
+            if (eye != null && eye.getWorld() == location.getWorld()
+                    && MathHelper.isInView(eye, location.getX(), location.getY(), location.getZ(), distance, minCos, CULL_NEAR_DISTANCE)) {
+                visible = true;
+                break;
+            }
+        }
+
+        if (visible && culled) {
+            culled = false;
+            currentIcon.show();
+        } else if (!visible && !culled) {
+            culled = true;
+            onCull();
+            currentIcon.hide();
+        }
+        return culled;
+    }
+
+    // The cosines only change with the configured angle, previews and the renderer both read the cached pair.
+    private record CullCone(float angle, double visibleCos, double culledCos) {
+
+        private static volatile CullCone cached = compute(HuiSettings.CULLING_ANGLE.value());
+
+        private static CullCone of(float angle) {
+            CullCone cone = cached;
+            if (cone.angle != angle)
+                cached = cone = compute(angle);
+            return cone;
+        }
+
+        private static CullCone compute(float angle) {
+            return new CullCone(angle,
+                    Math.cos(Math.toRadians(Math.min(angle + CULL_ANGLE_MARGIN, 180F))),
+                    Math.cos(Math.toRadians(Math.min(angle - CULL_ANGLE_MARGIN, 180F))));
+        }
+
+        private double minCos(boolean culled) {
+            return culled ? culledCos : visibleCos;
+        }
+    }
+
     protected void rotateByPlayer() {
-        MathHelper.rotateAroundPoint(this.location, session.getPlayer().getEyeLocation(), 0, session.getInitialY());
+        MathHelper.rotateAroundPoint(this.location, session.getRotationPivot(), 0, session.getInitialY());
     }
 
     protected void rotateByCenter() {
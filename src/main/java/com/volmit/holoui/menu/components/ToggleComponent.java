@@ -83,6 +83,8 @@ public class ToggleComponent extends ClickableComponent<ToggleComponentData> {
         this.currentIcon.teleport(location.clone());
         this.plane = this.currentIcon.createBoundingBox();
         this.currentIcon.spawn();
+        session.getPicker().invalidate();
+        refreshHighlight();
     }
 
     private boolean isValid() {
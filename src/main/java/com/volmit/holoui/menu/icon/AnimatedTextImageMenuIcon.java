@@ -17,108 +17,69 @@
  */
 package com.volmit.holoui.menu.icon;
 
-import com.google.common.collect.Lists;
 import com.volmit.holoui.HoloUI;
 import com.volmit.holoui.config.icon.AnimatedImageData;
 import com.volmit.holoui.exceptions.MenuIconException;
-import com.volmit.holoui.menu.ArmorStandManager;
 import com.volmit.holoui.menu.MenuSession;
-import com.volmit.holoui.utils.ArmorStand;
+import com.volmit.holoui.utils.ImageAnimation;
 import com.volmit.holoui.utils.TextUtils;
+import com.volmit.holoui.utils.collection.IntList;
 import com.volmit.holoui.utils.math.CollisionPlane;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.TextDecoration;
 import org.bukkit.Location;
 
-import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.UUID;
 
 public class AnimatedTextImageMenuIcon extends MenuIcon<AnimatedImageData> {
 
-    private final LinkedList<List<Component>> frameComponents = Lists.newLinkedList();
+    private final ImageAnimation animation;
 
     private int currentFrame;
     private int passedTicks;
 
     public AnimatedTextImageMenuIcon(MenuSession session, Location loc, AnimatedImageData data) throws MenuIconException {
         super(session, loc, data);
-        createComponents();
+        this.animation = loadAnimation();
         currentFrame = passedTicks = 0;
     }
 
+    @Override
+    public boolean isAnimated() {
+        return true;
+    }
+
     @Override
     public void tick() {
         passedTicks++;
-        if (passedTicks >= data.speed()) {
+        if (passedTicks >= animation.get(currentFrame).delay()) {
             passedTicks = 0;
-            currentFrame = ++currentFrame % frameComponents.size();
+            currentFrame = ++currentFrame % animation.size();
             updateFrame();
         }
     }
 
     @Override
-    protected List<UUID> createArmorStands(Location location) {
-        List<UUID> uuids = Lists.newArrayList();
-        location.add(0, ((frameComponents.getFirst().size() - 1) / 2F * NAMETAG_SIZE) - NAMETAG_SIZE, 0);
-        frameComponents.getFirst().forEach(c -> {
-            uuids.add(ArmorStandManager.add(ArmorStand.Builder.nametagArmorStand(c, location)));
-            location.subtract(0, NAMETAG_SIZE, 0);
-        });
-        return uuids;
+    // Frames only carry the lines that changed, so a respawn has to start from the frame being shown.
+    protected IntList createArmorStands(Location location) {
+        return createTextEntities(animation.get(currentFrame).lines(), location);
     }
 
     @Override
     public CollisionPlane createBoundingBox() {
+        List<Component> lines = animation.get(0).lines();
         float width = 0;
-        for (Component component : frameComponents.getFirst())
+        for (Component component : lines)
             width = Math.max(width, TextUtils.content(component).length() * NAMETAG_SIZE / 2);
-        return new CollisionPlane(position.toVector(), width, (frameComponents.getFirst().size() - 1) * NAMETAG_SIZE);
+        return new CollisionPlane(position.toVector(), width, (lines.size() - 1) * NAMETAG_SIZE);
     }
 
-    private List<BufferedImage> getImages() throws IOException {
-        List<BufferedImage> images = Lists.newArrayList();
-        for (String s : data.source())
-            images.add(HoloUI.INSTANCE.getConfigManager().getImage(s).getRight());
-        return images;
-    }
-
-    private void createComponents() throws MenuIconException {
+    private ImageAnimation loadAnimation() throws MenuIconException {
         try {
-            int height = getImages()
-                    .stream()
-                    .mapToInt(BufferedImage::getHeight)
-                    .max()
-                    .orElse(0);
-            getImages().forEach(i -> {
-                List<Component> lines = Lists.newArrayList();
-                for (int y = 0; y < i.getHeight(); y++) {
-                    var component = Component.text();
-                    for (int x = 0; x < i.getWidth(); x++) {
-                        int colour = i.getRGB(x, y);
-                        if (((colour >> 24) & 0x0000FF) < 255)
-                            component.append(Component.text(" ").decorate(TextDecoration.BOLD))
-                                    .append(Component.text(" "));
-                        else
-                            component.append(TextUtils.textColor("█", colour & 0x00FFFFFF));
-                    }
-                    lines.add(component.build());
-                }
-
-                var empty = Component.text();
-                for (int x = 0; x < i.getWidth(); x++) {
-                    empty.append(Component.text(" ")
-                                    .decorate(TextDecoration.BOLD))
-                            .append(Component.text(" "));
-                }
-                for (int y = 0; y < height - i.getHeight(); y++) {
-                    lines.add(empty.build());
-                }
-
-                frameComponents.add(lines);
-            });
+            ImageAnimation animation = HoloUI.INSTANCE.getConfigManager().getAnimation(data.source(), data.speed());
+            if (animation.size() == 0)
+                throw new MenuIconException("Animated icon has no frames!");
+            return animation;
         } catch (IOException e) {
             MenuIconException ex = new MenuIconException("Failed to construct animated icon!");
             ex.initCause(e);
@@ -127,8 +88,7 @@ public class AnimatedTextImageMenuIcon extends MenuIcon<AnimatedImageData> {
     }
 
     private void updateFrame() {
-        List<Component> components = frameComponents.get(currentFrame);
-        for (int i = 0; i < armorStands.size(); i++)
-            ArmorStandManager.changeName(armorStands.get(i), components.get(i));
+        ImageAnimation.Frame frame = animation.get(currentFrame);
+        updateLines(frame.lines(), frame.changedLines());
     }
 }
@@ -18,13 +18,14 @@
 package com.volmit.holoui.menu.icon;
 
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Lists;
 import com.volmit.holoui.config.icon.ItemIconData;
 import com.volmit.holoui.exceptions.MenuIconException;
 import com.volmit.holoui.menu.ArmorStandManager;
 import com.volmit.holoui.menu.MenuSession;
 import com.volmit.holoui.utils.ArmorStand;
+import com.volmit.holoui.utils.DisplayEntity;
 import com.volmit.holoui.utils.ItemUtils;
+import com.volmit.holoui.utils.collection.IntList;
 import com.volmit.holoui.utils.math.CollisionPlane;
 import com.volmit.holoui.utils.math.MathHelper;
 import com.volmit.holoui.utils.registries.Materials;
@@ -35,11 +36,12 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.util.Vector;
 
 import java.util.List;
-import java.util.UUID;
 
 public class ItemMenuIcon extends MenuIcon<ItemIconData> {
 
     private static final float ITEM_OFFSET = 1F;
+    private static final float DISPLAY_SCALE = .5F;
+    private static final float DISPLAY_COUNT_OFFSET = -.3F;
     private static final float BLOCK_OFFSET = -.95F;
     private static final List<Material> BLOCK_BLACKLIST = ImmutableList.of(
             Material.BARRIER, Material.LIGHT, Material.HOPPER, Material.TURTLE_EGG, Materials.GRASS, Material.TALL_GRASS,
@@ -49,11 +51,16 @@ public class ItemMenuIcon extends MenuIcon<ItemIconData> {
             Material.CYAN_STAINED_GLASS_PANE, Material.PURPLE_STAINED_GLASS_PANE, Material.BLUE_STAINED_GLASS_PANE,
             Material.BROWN_STAINED_GLASS_PANE, Material.GREEN_STAINED_GLASS_PANE, Material.RED_STAINED_GLASS_PANE,
             Material.BLACK_STAINED_GLASS_PANE, Material.GLASS_PANE, Material.POPPY, Material.DANDELION);
-    private final ItemStack item;
+    private ItemStack item;
+    private float yaw;
 
     public ItemMenuIcon(MenuSession session, Location loc, ItemIconData data) throws MenuIconException {
         super(session, loc, data);
-        this.item = new ItemUtils.Builder(data.materialType(), data.count() > 0 ? data.count() : 1)
+        this.item = createItem(data);
+    }
+
+    private static ItemStack createItem(ItemIconData data) {
+        return new ItemUtils.Builder(data.materialType(), data.count() > 0 ? data.count() : 1)
                 .modelData(data.customModelValue())
                 .get();
     }
@@ -62,49 +69,86 @@ public class ItemMenuIcon extends MenuIcon<ItemIconData> {
         return new CollisionPlane(position.toVector().clone().subtract(new Vector(0, 0.05F, 0)), .75F, .75F);
     }
 
-    protected List<UUID> createArmorStands(Location loc) {
-        List<UUID> uuids = Lists.newArrayList();
+    protected IntList createArmorStands(Location loc) {
+        IntList ids = new IntList(2);
+        if (backend == RenderBackend.DISPLAY) {
+            ids.add(session.getEntities().add(id -> DisplayEntity.item(id, item, DISPLAY_SCALE, position.clone())));
+            if (item.getAmount() > 1)
+                ids.add(session.getEntities().add(id -> countDisplay(id, item.getAmount())));
+            return ids;
+        }
         Location location = loc.clone();
         if (isBlock())
             location.add(0, BLOCK_OFFSET, 0);
         else
             location.subtract(0, ITEM_OFFSET + (item.getAmount() > 1 ? 0 : .09F), 0);
-        ArmorStand.Builder builder = ArmorStand.Builder.itemArmorStand(item, location).small(true);
-        uuids.add(ArmorStandManager.add(builder.build()));
+        ids.add(session.getEntities().add(id -> ArmorStand.Builder.itemArmorStand(id, item, location).small(true).build()));
         if (item.getAmount() > 1) {
             loc.add(0F, -NAMETAG_SIZE - .15F, 0);
             Component count = Component.text(item.getAmount());
-            uuids.add(ArmorStandManager.add(ArmorStand.Builder.nametagArmorStand(count, loc)));
+            ids.add(session.getEntities().add(id -> ArmorStand.Builder.nametagArmorStand(id, count, loc)));
         }
-        return uuids;
+        return ids;
     }
 
     public void updateCount(int count) {
+        if (backend == RenderBackend.DISPLAY) {
+            if (armorStands.size() == 1 && count > 1) {
+                int display = session.getEntities().add(id -> countDisplay(id, count));
+                armorStands.add(display);
+                ArmorStandManager.spawn(display);
+            } else if (armorStands.size() == 2 && count < 2)
+                ArmorStandManager.delete(armorStands.removeAt(1));
+            else if (armorStands.size() == 2)
+                ArmorStandManager.changeName(armorStands.get(1), Component.text(count));
+            return;
+        }
         if (armorStands.size() == 1 && count > 1) {
             ArmorStandManager.move(armorStands.get(0), new Vector(0, .09F, 0));
-            UUID armorStand = ArmorStandManager.add(ArmorStand.Builder.nametagArmorStand(Component.text(count), position.clone().add(0F, -NAMETAG_SIZE - .37F, 0)));
+            int armorStand = session.getEntities().add(id -> ArmorStand.Builder.nametagArmorStand(id, Component.text(count), position.clone().add(0F, -NAMETAG_SIZE - .37F, 0)));
             armorStands.add(armorStand);
-            ArmorStandManager.spawn(armorStand, session.getPlayer());
+            ArmorStandManager.spawn(armorStand);
         } else if (armorStands.size() == 2 && count < 2) {
             ArmorStandManager.move(armorStands.get(0), new Vector(0, -.09F, 0));
-            ArmorStandManager.delete(armorStands.get(1));
-            armorStands.remove(1);
+            ArmorStandManager.delete(armorStands.removeAt(1));
         } else {
             ArmorStandManager.changeName(armorStands.get(1), Component.text(count));
         }
     }
 
+    // Swaps the item on the existing entity, it is only moved when switching between block and item offsets.
+    public void changeItem(ItemIconData data) {
+        boolean wasBlock = isBlock();
+        ItemStack next = createItem(data);
+        int count = next.getAmount();
+        this.item = next;
+        if (armorStands == null || armorStands.isEmpty())
+            return;
+        ArmorStandManager.changeItem(armorStands.get(0), next);
+        if (count > 1 || armorStands.size() > 1)
+            updateCount(count);
+        if (backend == RenderBackend.DISPLAY || wasBlock == isBlock())
+            return;
+        if (!isBlock())
+            ArmorStandManager.goTo(armorStands.get(0), position.clone().subtract(0, NAMETAG_SIZE + ITEM_OFFSET + (count > 1 ? 0 : .09F), 0));
+        rotate(yaw);
+    }
+
     @Override
     public void spawn() {
         super.spawn();
-        rotate((float) MathHelper.getRotationFromDirection(session.getPlayer().getEyeLocation().getDirection().multiply(-1F)).getY());
-        Vector dir = session.getPlayer().getEyeLocation().getDirection();
+        Location eye = session.getEyeLocation(session.getPlayer());
+        if (eye == null)
+            return;
+        Vector dir = eye.getDirection();
+        rotate((float) MathHelper.getRotationFromDirection(dir.clone().multiply(-1F)).getY());
         rotate(-(float) MathHelper.getRotationFromDirection(dir).getY());
     }
 
     @Override
     public void rotate(float yaw) {
-        if (isBlock()) {
+        this.yaw = yaw;
+        if (isBlock() && backend == RenderBackend.ARMOR_STAND) {
             Location offset = MathHelper.rotateAroundPoint(this.position.clone().add(0, BLOCK_OFFSET, .3F), this.position, 0, yaw);
             ArmorStandManager.goTo(armorStands.get(0), offset);
             super.rotate(-yaw + 180);
@@ -112,6 +156,10 @@ public class ItemMenuIcon extends MenuIcon<ItemIconData> {
             super.rotate(-yaw + 180);
     }
 
+    private DisplayEntity countDisplay(int id, int count) {
+        return DisplayEntity.text(id, List.of(Component.text(count)), NAMETAG_SIZE, position.clone().add(0, DISPLAY_COUNT_OFFSET, 0));
+    }
+
     private boolean isBlock() {
         return item.getType().isBlock() && !BLOCK_BLACKLIST.contains(item.getType());
     }
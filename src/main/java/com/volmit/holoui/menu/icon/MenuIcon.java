@@ -23,13 +23,19 @@ import com.volmit.holoui.exceptions.MenuIconException;
 import com.volmit.holoui.menu.ArmorStandManager;
 import com.volmit.holoui.menu.MenuSession;
 import com.volmit.holoui.menu.components.MenuComponent;
+import com.volmit.holoui.utils.ArmorStand;
+import com.volmit.holoui.utils.DisplayEntity;
+import com.volmit.holoui.utils.Profiler;
+import com.volmit.holoui.utils.collection.IntList;
 import com.volmit.holoui.utils.math.CollisionPlane;
 import lombok.NonNull;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
 import org.bukkit.Location;
+import org.bukkit.entity.Player;
 import org.bukkit.util.Vector;
 
 import java.util.List;
-import java.util.UUID;
 import java.util.logging.Level;
 
 public abstract class MenuIcon<D extends MenuIconData> {
@@ -38,14 +44,16 @@ public abstract class MenuIcon<D extends MenuIconData> {
 
     protected final MenuSession session;
     protected final D data;
+    protected final RenderBackend backend;
 
-    protected List<UUID> armorStands;
+    protected IntList armorStands;
     protected Location position;
 
     public MenuIcon(MenuSession session, Location loc, D data) throws MenuIconException {
         this.session = session;
         this.position = loc.clone();
         this.data = data;
+        this.backend = RenderBackend.current();
     }
 
     @NonNull
@@ -72,20 +80,74 @@ public abstract class MenuIcon<D extends MenuIconData> {
         }
     }
 
-    protected abstract List<UUID> createArmorStands(Location loc);
+    protected abstract IntList createArmorStands(Location loc);
 
     public abstract CollisionPlane createBoundingBox();
 
+    protected IntList createTextEntities(List<Component> lines, Location loc) {
+        IntList ids = new IntList(backend == RenderBackend.DISPLAY ? 1 : lines.size());
+        if (backend == RenderBackend.DISPLAY) {
+            ids.add(session.getEntities().add(id -> DisplayEntity.text(id, lines, NAMETAG_SIZE, position.clone())));
+            return ids;
+        }
+        loc.add(0, ((lines.size() - 1) / 2F * NAMETAG_SIZE) - NAMETAG_SIZE, 0);
+        lines.forEach(c -> {
+            ids.add(session.getEntities().add(id -> ArmorStand.Builder.nametagArmorStand(id, c, loc)));
+            loc.subtract(0, NAMETAG_SIZE, 0);
+        });
+        return ids;
+    }
+
+    protected void updateLines(List<Component> lines) {
+        if (armorStands == null || armorStands.isEmpty())
+            return;
+        if (backend == RenderBackend.DISPLAY) {
+            ArmorStandManager.changeName(armorStands.get(0), Component.join(JoinConfiguration.newlines(), lines));
+            return;
+        }
+        for (int i = 0; i < armorStands.size() && i < lines.size(); i++)
+            ArmorStandManager.changeName(armorStands.get(i), lines.get(i));
+    }
+
+    // Only the given line indices are resent, a display entity still needs the whole text.
+    protected void updateLines(List<Component> lines, int[] changed) {
+        if (armorStands == null || armorStands.isEmpty() || changed.length == 0)
+            return;
+        if (backend == RenderBackend.DISPLAY) {
+            updateLines(lines);
+            return;
+        }
+        for (int i : changed)
+            if (i < armorStands.size() && i < lines.size())
+                ArmorStandManager.changeName(armorStands.get(i), lines.get(i));
+    }
+
     public void tick() {
     }
 
+    public boolean isAnimated() {
+        return false;
+    }
+
     public void spawn() {
+        long start = Profiler.start();
         armorStands = createArmorStands(position.clone().subtract(0, NAMETAG_SIZE, 0));
-        armorStands.forEach(a -> ArmorStandManager.spawn(a, session.getPlayer()));
+        armorStands.forEach(ArmorStandManager::spawn);
+        Profiler.record(Profiler.Section.ICON_SPAWN, session.getId(), start);
+    }
+
+    public void hide() {
+        if (armorStands != null)
+            armorStands.forEach(ArmorStandManager::despawn);
+    }
+
+    public void show() {
+        if (armorStands != null)
+            armorStands.forEach(ArmorStandManager::spawn);
     }
 
     public void remove() {
-        armorStands.forEach(ArmorStandManager::delete);
+        session.getEntities().delete(armorStands);
         armorStands.clear();
     }
 
@@ -100,6 +162,13 @@ public abstract class MenuIcon<D extends MenuIconData> {
             armorStands.forEach(a -> ArmorStandManager.rotate(a, yaw));
     }
 
+    public void showFor(Player viewer, Location loc) {
+        if (armorStands == null || armorStands.isEmpty())
+            return;
+        Vector offset = loc.toVector().subtract(position.toVector());
+        armorStands.forEach(a -> ArmorStandManager.offsetFor(viewer, a, offset));
+    }
+
     public void teleport(Location loc) {
         Vector offset = loc.toVector().subtract(position.toVector());
         move(offset);
@@ -0,0 +1,33 @@
+/*
+ * HoloUI is a holographic user interface for Minecraft Bukkit Servers
+ * Copyright (c) 2025 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.volmit.holoui.menu.icon;
+
+import com.volmit.holoui.config.HuiSettings;
+import com.volmit.holoui.utils.DisplayEntity;
+
+public enum RenderBackend {
+    ARMOR_STAND,
+    DISPLAY;
+
+    public static RenderBackend current() {
+        String mode = HuiSettings.RENDER_BACKEND.value();
+        if (mode.equalsIgnoreCase("armorStand") || !DisplayEntity.isSupported())
+            return ARMOR_STAND;
+        return DISPLAY;
+    }
+}
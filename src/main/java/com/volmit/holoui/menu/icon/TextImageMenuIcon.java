@@ -21,22 +21,16 @@ import com.google.common.collect.Lists;
 import com.volmit.holoui.HoloUI;
 import com.volmit.holoui.config.icon.TextImageIconData;
 import com.volmit.holoui.exceptions.MenuIconException;
-import com.volmit.holoui.menu.ArmorStandManager;
 import com.volmit.holoui.menu.MenuSession;
-import com.volmit.holoui.utils.ArmorStand;
+import com.volmit.holoui.utils.Profiler;
 import com.volmit.holoui.utils.TextUtils;
+import com.volmit.holoui.utils.collection.IntList;
 import com.volmit.holoui.utils.math.CollisionPlane;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.TextDecoration;
-import org.apache.commons.imaging.ImageFormat;
-import org.apache.commons.imaging.ImageFormats;
-import org.apache.commons.lang3.tuple.Pair;
 import org.bukkit.Location;
 
-import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.List;
-import java.util.UUID;
 
 public class TextImageMenuIcon extends MenuIcon<TextImageIconData> {
 
@@ -62,14 +56,8 @@ public class TextImageMenuIcon extends MenuIcon<TextImageIconData> {
     }
 
     @Override
-    protected List<UUID> createArmorStands(Location loc) {
-        List<UUID> uuids = Lists.newArrayList();
-        loc.add(0, ((components.size() - 1) / 2F * NAMETAG_SIZE) - NAMETAG_SIZE, 0);
-        components.forEach(c -> {
-            uuids.add(ArmorStandManager.add(ArmorStand.Builder.nametagArmorStand(c, loc)));
-            loc.subtract(0, NAMETAG_SIZE, 0);
-        });
-        return uuids;
+    protected IntList createArmorStands(Location loc) {
+        return createTextEntities(components, loc);
     }
 
     @Override
@@ -81,28 +69,15 @@ public class TextImageMenuIcon extends MenuIcon<TextImageIconData> {
     }
 
     private List<Component> createComponents() throws MenuIconException {
+        long start = Profiler.start();
         try {
-            Pair<ImageFormat, BufferedImage> imageData = HoloUI.INSTANCE.getConfigManager().getImage(data.relativePath());
-            BufferedImage image = imageData.getRight();
-            ImageFormat format = imageData.getLeft();
-            List<Component> lines = Lists.newArrayList();
-            for (int y = 0; y < image.getHeight(); y++) {
-                var component = Component.text();
-                for (int x = 0; x < image.getWidth(); x++) {
-                    int colour = image.getRGB(x, y);
-                    if (format != ImageFormats.JPEG && ((colour >> 24) & 0x0000FF) < 255)
-                        component.append(Component.text(" ").decorate(TextDecoration.BOLD)).append(Component.text(" "));
-                    else
-                        component.append(TextUtils.textColor("█", colour & 0x00FFFFFF));
-                }
-
-                lines.add(component.build());
-            }
-            return lines;
+            return HoloUI.INSTANCE.getConfigManager().getImageLines(data.relativePath());
         } catch (IOException e) {
             MenuIconException ex = new MenuIconException("Failed to load relative image \"%s\"!", data.relativePath());
             ex.initCause(e);
             throw ex;
+        } finally {
+            Profiler.record(Profiler.Section.IMAGE_CONVERT, session.getId(), start);
         }
     }
 }
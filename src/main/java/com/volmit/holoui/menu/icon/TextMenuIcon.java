@@ -17,21 +17,19 @@
  */
 package com.volmit.holoui.menu.icon;
 
-import com.google.common.collect.Lists;
 import com.volmit.holoui.config.icon.TextIconData;
 import com.volmit.holoui.exceptions.MenuIconException;
 import com.volmit.holoui.menu.ArmorStandManager;
 import com.volmit.holoui.menu.MenuSession;
-import com.volmit.holoui.utils.ArmorStand;
 import com.volmit.holoui.utils.Placeholders;
 import com.volmit.holoui.utils.TextUtils;
+import com.volmit.holoui.utils.collection.IntList;
 import com.volmit.holoui.utils.math.CollisionPlane;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Location;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 public class TextMenuIcon extends MenuIcon<TextIconData> {
@@ -46,14 +44,8 @@ public class TextMenuIcon extends MenuIcon<TextIconData> {
     }
 
     @Override
-    protected List<UUID> createArmorStands(Location loc) {
-        List<UUID> uuids = Lists.newArrayList();
-        loc.add(0, ((components.size() - 1) / 2F * NAMETAG_SIZE) - NAMETAG_SIZE, 0);
-        components.forEach(c -> {
-            uuids.add(ArmorStandManager.add(ArmorStand.Builder.nametagArmorStand(c, loc)));
-            loc.subtract(0, NAMETAG_SIZE, 0);
-        });
-        return uuids;
+    protected IntList createArmorStands(Location loc) {
+        return createTextEntities(components, loc);
     }
 
     @Override
@@ -68,6 +60,9 @@ public class TextMenuIcon extends MenuIcon<TextIconData> {
         if (index >= components.size())
             return;
         components.set(index, c);
-        ArmorStandManager.changeName(this.armorStands.get(index), c);
+        if (backend == RenderBackend.DISPLAY)
+            updateLines(components);
+        else if (armorStands != null && index < armorStands.size())
+            ArmorStandManager.changeName(armorStands.get(index), c);
     }
 }
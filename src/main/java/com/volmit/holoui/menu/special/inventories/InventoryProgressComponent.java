@@ -26,7 +26,6 @@ import com.volmit.holoui.menu.components.MenuComponent;
 import com.volmit.holoui.menu.icon.MenuIcon;
 import com.volmit.holoui.menu.icon.TextMenuIcon;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.Style;
 import org.bukkit.inventory.Inventory;
 
@@ -37,25 +36,21 @@ public class InventoryProgressComponent extends MenuComponent<InventoryProgressC
     private final Inventory inventory;
     private final Function<Inventory, Double> progress;
     private final int segmentCount;
-    private final Style color;
+    private final Component[] bars;
 
-    private double prevProg;
+    private int prevLevel = -1;
 
     public InventoryProgressComponent(MenuSession session, MenuComponentData data) {
         super(session, data);
         this.inventory = this.data.inv();
         this.progress = this.data.progress();
         this.segmentCount = this.data.segments();
-        this.color = this.data.color();
+        this.bars = ProgressBars.of(this.data.color(), segmentCount);
     }
 
     @Override
     protected void onTick() {
-        double progress = this.progress.apply(inventory);
-        if (prevProg == progress)
-            return;
-        ((TextMenuIcon) currentIcon).updateName(0, getBar(progress));
-        this.prevProg = progress;
+        updateBar();
     }
 
     @Override
@@ -64,23 +59,19 @@ public class InventoryProgressComponent extends MenuComponent<InventoryProgressC
     }
 
     protected void onOpen() {
-        double progress = this.progress.apply(inventory);
-        ((TextMenuIcon) currentIcon).updateName(0, getBar(progress));
-        this.prevProg = progress;
+        prevLevel = -1;
+        updateBar();
     }
 
     protected void onClose() {
     }
 
-    private Component getBar(double invProgress) {
-        int progress = (int) (invProgress * segmentCount);
-        var c = Component.text();
-        for (int i = 0; i < segmentCount; i++) {
-            Style s = i < progress ? this.color : Style.style(NamedTextColor.DARK_GRAY);
-            c.append(Component.text("|").style(s));
-        }
-
-        return c.build();
+    private void updateBar() {
+        int level = ProgressBars.level(progress.apply(inventory), segmentCount);
+        if (prevLevel == level)
+            return;
+        ((TextMenuIcon) currentIcon).updateName(0, bars[level]);
+        this.prevLevel = level;
     }
 
     public record Data(Inventory inv, Function<Inventory, Double> progress, int segments,
@@ -28,12 +28,16 @@ import com.volmit.holoui.menu.icon.MenuIcon;
 import org.bukkit.Material;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
 
 public class InventorySlotComponent extends MenuComponent<InventorySlotComponent.Data> {
 
     private static final ItemStack MISSING = new ItemStack(Material.BARRIER);
 
     private ItemStack currentStack;
+    private InventoryWatcher watcher;
+    private ItemStack pendingStack;
+    private boolean pending;
 
     public InventorySlotComponent(MenuSession session, MenuComponentData data) {
         super(session, data);
@@ -44,28 +48,37 @@ public class InventorySlotComponent extends MenuComponent<InventorySlotComponent
             currentStack = item.clone();
     }
 
+    // Called by the shared watcher, applied on the next tick so culled slots wait until they are visible again.
+    void onSlotChanged(@Nullable ItemStack stack) {
+        this.pendingStack = stack;
+        this.pending = true;
+    }
+
     @Override
     protected void onTick() {
-        ItemStack stack = data.inventory().getItem(data.slotId());
-        if (stack == null && currentStack != MISSING) {
-            this.currentStack = MISSING;
-            updateDisplay();
+        if (!pending)
+            return;
+        pending = false;
+        ItemStack stack = pendingStack;
+        pendingStack = null;
+        if (stack == null) {
+            if (currentStack != MISSING) {
+                this.currentStack = MISSING;
+                updateDisplay();
+            }
             return;
         }
 
-        if (stack != null && currentStack.isSimilar(stack) && currentStack.getAmount() != stack.getAmount()) {
-            this.currentStack.setAmount(stack.getAmount());
-            ((ItemMenuIcon) currentIcon).updateCount(stack.getAmount());
+        if (currentStack.isSimilar(stack)) {
+            if (currentStack.getAmount() != stack.getAmount()) {
+                this.currentStack = stack;
+                ((ItemMenuIcon) currentIcon).updateCount(stack.getAmount());
+            }
             return;
         }
 
-        if (stack != null && !currentStack.equals(stack)) {
-            if (stack.getType() == Material.AIR || stack.getAmount() < 1)
-                this.currentStack = MISSING;
-            else
-                this.currentStack = stack.clone();
-            updateDisplay();
-        }
+        this.currentStack = stack;
+        updateDisplay();
     }
 
     @Override
@@ -74,12 +87,26 @@ public class InventorySlotComponent extends MenuComponent<InventorySlotComponent
     }
 
     protected void onOpen() {
+        watcher = InventoryWatcher.subscribe(data.inventory(), data.slotId(), this);
+        ItemStack stack = watcher.getItem(data.slotId());
+        if (stack == null ? currentStack != MISSING : !stack.equals(currentStack))
+            onSlotChanged(stack);
     }
 
     protected void onClose() {
+        if (watcher != null) {
+            watcher.unsubscribe(data.slotId(), this);
+            watcher = null;
+        }
+        pending = false;
+        pendingStack = null;
     }
 
     private void updateDisplay() {
+        if (currentIcon instanceof ItemMenuIcon icon) {
+            icon.changeItem(ItemIconData.of(currentStack, true));
+            return;
+        }
         if (currentIcon != null)
             this.currentIcon.remove();
         this.currentIcon = MenuIcon.createIcon(session, getLocation(), ItemIconData.of(currentStack, true), this);
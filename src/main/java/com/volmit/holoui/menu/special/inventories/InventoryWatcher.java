@@ -0,0 +1,182 @@
+/*
+ * HoloUI is a holographic user interface for Minecraft Bukkit Servers
+ * Copyright (c) 2025 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.volmit.holoui.menu.special.inventories;
+
+import com.volmit.holoui.HoloUI;
+import com.volmit.holoui.utils.Events;
+import org.bukkit.Material;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Container;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.inventory.*;
+import org.bukkit.inventory.DoubleChestInventory;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+public final class InventoryWatcher {
+
+    private static final int SWEEP_INTERVAL = 40;
+    private static final Map<Inventory, InventoryWatcher> WATCHERS = new HashMap<>();
+
+    private final Inventory inventory;
+    private final ItemStack[] items;
+    private final BitSet dirty;
+    private final List<List<InventorySlotComponent>> subscribers;
+    private int subscriberCount;
+
+    private InventoryWatcher(Inventory inventory) {
+        this.inventory = inventory;
+        this.items = new ItemStack[inventory.getSize()];
+        this.dirty = new BitSet(items.length);
+        this.subscribers = new ArrayList<>(items.length);
+        for (int i = 0; i < items.length; i++) {
+            items[i] = read(i);
+            subscribers.add(new ArrayList<>(1));
+        }
+    }
+
+    // One watcher per inventory, shared by every preview of it and dropped with its last subscriber.
+    static InventoryWatcher subscribe(Inventory inventory, int slot, InventorySlotComponent component) {
+        InventoryWatcher watcher = WATCHERS.computeIfAbsent(inventory, InventoryWatcher::new);
+        if (slot >= 0 && slot < watcher.items.length) {
+            watcher.subscribers.get(slot).add(component);
+            watcher.subscriberCount++;
+        }
+        return watcher;
+    }
+
+    void unsubscribe(int slot, InventorySlotComponent component) {
+        if (slot >= 0 && slot < items.length && subscribers.get(slot).remove(component))
+            subscriberCount--;
+        if (subscriberCount <= 0)
+            WATCHERS.remove(inventory, this);
+    }
+
+    @Nullable
+    ItemStack getItem(int slot) {
+        return slot >= 0 && slot < items.length ? items[slot] : null;
+    }
+
+    private void tick(long tick) {
+        for (int i = (int) (tick % SWEEP_INTERVAL); i < items.length; i += SWEEP_INTERVAL)
+            dirty.set(i);
+        for (int i = dirty.nextSetBit(0); i >= 0; i = dirty.nextSetBit(i + 1)) {
+            ItemStack item = read(i);
+            if (Objects.equals(item, items[i]))
+                continue;
+            items[i] = item;
+            for (InventorySlotComponent component : subscribers.get(i))
+                component.onSlotChanged(item);
+        }
+        dirty.clear();
+    }
+
+    @Nullable
+    private ItemStack read(int slot) {
+        ItemStack item = inventory.getItem(slot);
+        if (item == null || item.getType() == Material.AIR || item.getAmount() < 1)
+            return null;
+        return item.clone();
+    }
+
+    public static void listen() {
+        HoloUI.INSTANCE.getClock().every(1L, () -> {
+            if (WATCHERS.isEmpty()) return;
+            long tick = HoloUI.INSTANCE.getClock().getTick();
+            List.copyOf(WATCHERS.values()).forEach(w -> w.tick(tick));
+        });
+        Events.listen(InventoryClickEvent.class, EventPriority.MONITOR, e -> {
+            if (e.isCancelled() || WATCHERS.isEmpty()) return;
+            switch (e.getAction()) {
+                case NOTHING -> {
+                }
+                case MOVE_TO_OTHER_INVENTORY, COLLECT_TO_CURSOR, HOTBAR_MOVE_AND_READD, UNKNOWN -> {
+                    markAll(e.getView().getTopInventory());
+                    markAll(e.getView().getBottomInventory());
+                }
+                default -> {
+                    mark(e.getClickedInventory(), e.getSlot());
+                    if (e.getClick() == ClickType.NUMBER_KEY || e.getClick() == ClickType.SWAP_OFFHAND)
+                        markAll(e.getView().getBottomInventory());
+                }
+            }
+        });
+        Events.listen(InventoryDragEvent.class, EventPriority.MONITOR, e -> {
+            if (e.isCancelled() || WATCHERS.isEmpty()) return;
+            InventoryView view = e.getView();
+            for (int raw : e.getRawSlots())
+                mark(view.getInventory(raw), view.convertSlot(raw));
+        });
+        Events.listen(InventoryMoveItemEvent.class, EventPriority.MONITOR, e -> {
+            if (e.isCancelled() || WATCHERS.isEmpty()) return;
+            markAll(e.getSource());
+            markAll(e.getDestination());
+        });
+        Events.listen(InventoryPickupItemEvent.class, EventPriority.MONITOR, e -> {
+            if (e.isCancelled() || WATCHERS.isEmpty()) return;
+            markAll(e.getInventory());
+        });
+        Events.listen(FurnaceSmeltEvent.class, EventPriority.MONITOR, e -> {
+            if (e.isCancelled() || WATCHERS.isEmpty()) return;
+            Inventory inventory = inventoryOf(e.getBlock().getState());
+            mark(inventory, 0);
+            mark(inventory, 2);
+        });
+        Events.listen(FurnaceBurnEvent.class, EventPriority.MONITOR, e -> {
+            if (e.isCancelled() || WATCHERS.isEmpty()) return;
+            mark(inventoryOf(e.getBlock().getState()), 1);
+        });
+    }
+
+    private static Inventory inventoryOf(BlockState state) {
+        return state instanceof Container container ? container.getInventory() : null;
+    }
+
+    private static void mark(Inventory inventory, int slot) {
+        if (inventory == null || slot < 0)
+            return;
+        if (inventory instanceof DoubleChestInventory chest) {
+            Inventory left = chest.getLeftSide();
+            if (slot < left.getSize())
+                mark(left, slot);
+            else
+                mark(chest.getRightSide(), slot - left.getSize());
+            return;
+        }
+        InventoryWatcher watcher = WATCHERS.get(inventory);
+        if (watcher != null && slot < watcher.items.length)
+            watcher.dirty.set(slot);
+    }
+
+    private static void markAll(Inventory inventory) {
+        if (inventory == null)
+            return;
+        if (inventory instanceof DoubleChestInventory chest) {
+            markAll(chest.getLeftSide());
+            markAll(chest.getRightSide());
+            return;
+        }
+        InventoryWatcher watcher = WATCHERS.get(inventory);
+        if (watcher != null)
+            watcher.dirty.set(0, watcher.items.length);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * HoloUI is a holographic user interface for Minecraft Bukkit Servers
+ * Copyright (c) 2025 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.volmit.holoui.menu.special.inventories;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class ProgressBars {
+
+    private static final Style EMPTY = Style.style(NamedTextColor.DARK_GRAY);
+    private static final Map<Key, Component[]> BARS = new ConcurrentHashMap<>();
+
+    // Every fill level of a bar, built once per style and length and shared by all previews.
+    static Component[] of(Style color, int segments) {
+        return BARS.computeIfAbsent(new Key(color, segments), ProgressBars::build);
+    }
+
+    static int level(double progress, int segments) {
+        return Math.max(0, Math.min(segments, (int) (progress * segments)));
+    }
+
+    private static Component[] build(Key key) {
+        Component filled = Component.text("|").style(key.color());
+        Component empty = Component.text("|").style(EMPTY);
+        Component[] bars = new Component[key.segments() + 1];
+        for (int level = 0; level <= key.segments(); level++) {
+            var c = Component.text();
+            for (int i = 0; i < key.segments(); i++)
+                c.append(i < level ? filled : empty);
+            bars[level] = c.build();
+        }
+        return bars;
+    }
+
+    private record Key(Style color, int segments) {
+    }
+}
@@ -27,9 +27,12 @@ import com.github.retrooper.packetevents.util.Vector3d;
 import com.github.retrooper.packetevents.util.Vector3f;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 import com.github.retrooper.packetevents.wrapper.play.server.*;
-import com.volmit.holoui.HoloUI;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.ToString;
 import lombok.experimental.Accessors;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Location;
@@ -40,15 +43,26 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.logging.Level;
 
 import static com.github.retrooper.packetevents.protocol.player.EquipmentSlot.*;
 import static io.github.retrooper.packetevents.util.SpigotConversionUtil.fromBukkitItemStack;
 
 @Data
 @Accessors(fluent = true)
-public class ArmorStand {
+public class ArmorStand implements PacketEntity {
     private static final AtomicInteger dataIndex = new AtomicInteger();
+    private static final int FLAGS = 1;
+    private static final int NAME = 1 << 1;
+    private static final int NAME_VISIBLE = 1 << 2;
+    private static final int STAND_FLAGS = 1 << 3;
+    private static final int HEAD_POSE = 1 << 4;
+    private static final int BODY_POSE = 1 << 5;
+    private static final int LEFT_ARM_POSE = 1 << 6;
+    private static final int RIGHT_ARM_POSE = 1 << 7;
+    private static final int LEFT_LEG_POSE = 1 << 8;
+    private static final int RIGHT_LEG_POSE = 1 << 9;
+    private static final int ALL = (1 << 10) - 1;
+
     private final int id;
     @NonNull
     private final UUID uuid;
@@ -80,11 +94,121 @@ public class ArmorStand {
     @NonNull
     private Vector3f rightLegPose = new Vector3f(1, 0, 1);
 
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final SyncState sync = new SyncState();
+
+    public ArmorStand displayName(@Nullable Component displayName) {
+        if (!Objects.equals(this.displayName, displayName)) {
+            this.displayName = displayName;
+            markDirty(NAME);
+        }
+        return this;
+    }
+
+    public ArmorStand invisible(boolean invisible) {
+        if (this.invisible != invisible) {
+            this.invisible = invisible;
+            markDirty(FLAGS);
+        }
+        return this;
+    }
+
+    public ArmorStand customNameVisible(boolean customNameVisible) {
+        if (this.customNameVisible != customNameVisible) {
+            this.customNameVisible = customNameVisible;
+            markDirty(NAME_VISIBLE);
+        }
+        return this;
+    }
+
+    public ArmorStand small(boolean small) {
+        if (this.small != small) {
+            this.small = small;
+            markDirty(STAND_FLAGS);
+        }
+        return this;
+    }
+
+    public ArmorStand basePlate(boolean basePlate) {
+        if (this.basePlate != basePlate) {
+            this.basePlate = basePlate;
+            markDirty(STAND_FLAGS);
+        }
+        return this;
+    }
+
+    public ArmorStand marker(boolean marker) {
+        if (this.marker != marker) {
+            this.marker = marker;
+            markDirty(STAND_FLAGS);
+        }
+        return this;
+    }
+
+    public ArmorStand showArms(boolean showArms) {
+        if (this.showArms != showArms) {
+            this.showArms = showArms;
+            markDirty(STAND_FLAGS);
+        }
+        return this;
+    }
+
+    public ArmorStand headPose(@NonNull Vector3f headPose) {
+        if (!this.headPose.equals(headPose)) {
+            this.headPose = headPose;
+            markDirty(HEAD_POSE);
+        }
+        return this;
+    }
+
+    public ArmorStand bodyPose(@NonNull Vector3f bodyPose) {
+        if (!this.bodyPose.equals(bodyPose)) {
+            this.bodyPose = bodyPose;
+            markDirty(BODY_POSE);
+        }
+        return this;
+    }
+
+    public ArmorStand leftArmPose(@NonNull Vector3f leftArmPose) {
+        if (!this.leftArmPose.equals(leftArmPose)) {
+            this.leftArmPose = leftArmPose;
+            markDirty(LEFT_ARM_POSE);
+        }
+        return this;
+    }
+
+    public ArmorStand rightArmPose(@NonNull Vector3f rightArmPose) {
+        if (!this.rightArmPose.equals(rightArmPose)) {
+            this.rightArmPose = rightArmPose;
+            markDirty(RIGHT_ARM_POSE);
+        }
+        return this;
+    }
+
+    public ArmorStand leftLegPose(@NonNull Vector3f leftLegPose) {
+        if (!this.leftLegPose.equals(leftLegPose)) {
+            this.leftLegPose = leftLegPose;
+            markDirty(LEFT_LEG_POSE);
+        }
+        return this;
+    }
+
+    public ArmorStand rightLegPose(@NonNull Vector3f rightLegPose) {
+        if (!this.rightLegPose.equals(rightLegPose)) {
+            this.rightLegPose = rightLegPose;
+            markDirty(RIGHT_LEG_POSE);
+        }
+        return this;
+    }
+
     public List<PacketWrapper<?>> spawn() {
         List<PacketWrapper<?>> packets = new ArrayList<>();
         packets.add(new WrapperPlayServerSpawnEntity(id, Optional.of(uuid), EntityTypes.ARMOR_STAND,
                 location, pitch, yaw, headYaw, 0, Optional.empty()));
-        packets.add(dataPacket());
+        packets.add(spawnDataPacket());
+        sync.position.reset(location, yaw, pitch);
 
         if (!equipment.isEmpty()) {
             List<Equipment> list = new ArrayList<>();
@@ -124,50 +248,112 @@ public class ArmorStand {
         return new WrapperPlayServerDestroyEntities(ids.stream().mapToInt(id -> id).toArray());
     }
 
+    @Nullable
     public PacketWrapper<?> goTo(@NonNull Location location) {
         this.location = PacketUtils.vector3d(location.toVector());
         this.pitch = location.getPitch();
         this.yaw = location.getYaw();
-
-        return new WrapperPlayServerEntityTeleport(id, this.location, yaw, pitch, true);
+        return sync.position.update(id, this.location, this.yaw, this.pitch);
     }
 
+    @Nullable
     public PacketWrapper<?> move(@NonNull Vector offset) {
         location = location.add(PacketUtils.vector3d(offset));
-        return new WrapperPlayServerEntityTeleport(id, location, yaw, pitch, true);
+        return sync.position.update(id, this.location, this.yaw, this.pitch);
     }
 
+    @Nullable
     public PacketWrapper<?> rotate(float yaw, float pitch) {
         this.yaw = yaw;
         this.pitch = pitch;
-        return new WrapperPlayServerEntityTeleport(id, location, yaw, pitch, true);
+        return sync.position.update(id, this.location, this.yaw, this.pitch);
     }
 
-    public PacketWrapper<?> dataPacket() {
-        List<EntityData<?>> metadata = new ArrayList<>();
+    @Nullable
+    public PacketWrapper<?> changeName(@Nullable Component name) {
+        return displayName(name).dataPacket();
+    }
 
-        metadata.add(new EntityData<>(0, EntityDataTypes.BYTE, (byte) (invisible ? 0x20 : 0)));
-        metadata.add(new EntityData<>(2, EntityDataTypes.OPTIONAL_ADV_COMPONENT, Optional.ofNullable(displayName)));
-        metadata.add(new EntityData<>(3, EntityDataTypes.BOOLEAN, customNameVisible));
-        metadata.add(new EntityData<>(5, EntityDataTypes.BOOLEAN, true));
+    // Swaps the item in whichever slot is worn already, so item stands keep their pose and offset.
+    @Nullable
+    public PacketWrapper<?> changeItem(@Nullable ItemStack item) {
+        EquipmentSlot slot = equipment.isEmpty() ? EquipmentSlot.HEAD : equipment.keySet().iterator().next();
+        if (Objects.equals(equipment.get(slot), item))
+            return null;
+        if (item == null)
+            equipment.remove(slot);
+        else
+            equipment.put(slot, item);
+        return new WrapperPlayServerEntityEquipment(id, List.of(new Equipment(packetSlot(slot), fromBukkitItemStack(item))));
+    }
 
-        byte mask = 0;
+    private static com.github.retrooper.packetevents.protocol.player.EquipmentSlot packetSlot(EquipmentSlot slot) {
+        return switch (slot) {
+            case HAND -> MAIN_HAND;
+            case OFF_HAND -> OFF_HAND;
+            case HEAD -> HELMET;
+            case CHEST -> CHEST_PLATE;
+            case LEGS -> LEGGINGS;
+            case FEET -> BOOTS;
+            default -> MAIN_HAND;
+        };
+    }
+
+    @Nullable
+    public PacketWrapper<?> dataPacket() {
+        if (sync.dirty == 0)
+            return null;
+        List<EntityData<?>> metadata = new ArrayList<>(Integer.bitCount(sync.dirty));
+        writeMetadata(metadata, sync.dirty);
+        sync.dirty = 0;
+        return new WrapperPlayServerEntityMetadata(id, metadata);
+    }
+
+    public PacketWrapper<?> spawnDataPacket() {
+        if (sync.spawnMetadata == null) {
+            List<EntityData<?>> metadata = new ArrayList<>(11);
+            writeMetadata(metadata, ALL);
+            metadata.add(new EntityData<>(5, EntityDataTypes.BOOLEAN, true));
+            sync.spawnMetadata = Collections.unmodifiableList(metadata);
+        }
+        sync.dirty = 0;
+        return new WrapperPlayServerEntityMetadata(id, sync.spawnMetadata);
+    }
 
-        mask = setBit(mask, 1, small);
-        mask = setBit(mask, 4, showArms);
-        mask = setBit(mask, 8, !basePlate);
-        mask = setBit(mask, 16, marker);
+    private void writeMetadata(List<EntityData<?>> metadata, int mask) {
+        if ((mask & FLAGS) != 0)
+            metadata.add(new EntityData<>(0, EntityDataTypes.BYTE, (byte) (invisible ? 0x20 : 0)));
+        if ((mask & NAME) != 0)
+            metadata.add(new EntityData<>(2, EntityDataTypes.OPTIONAL_ADV_COMPONENT, Optional.ofNullable(displayName)));
+        if ((mask & NAME_VISIBLE) != 0)
+            metadata.add(new EntityData<>(3, EntityDataTypes.BOOLEAN, customNameVisible));
 
         int dataIndex = dataIndex();
-        metadata.add(new EntityData<>(dataIndex++, EntityDataTypes.BYTE, mask));
-        metadata.add(new EntityData<>(dataIndex++, EntityDataTypes.ROTATION, headPose));
-        metadata.add(new EntityData<>(dataIndex++, EntityDataTypes.ROTATION, bodyPose));
-        metadata.add(new EntityData<>(dataIndex++, EntityDataTypes.ROTATION, leftArmPose));
-        metadata.add(new EntityData<>(dataIndex++, EntityDataTypes.ROTATION, rightArmPose));
-        metadata.add(new EntityData<>(dataIndex++, EntityDataTypes.ROTATION, leftLegPose));
-        metadata.add(new EntityData<>(dataIndex, EntityDataTypes.ROTATION, rightLegPose));
+        if ((mask & STAND_FLAGS) != 0) {
+            byte flags = 0;
+            flags = setBit(flags, 1, small);
+            flags = setBit(flags, 4, showArms);
+            flags = setBit(flags, 8, !basePlate);
+            flags = setBit(flags, 16, marker);
+            metadata.add(new EntityData<>(dataIndex, EntityDataTypes.BYTE, flags));
+        }
+        if ((mask & HEAD_POSE) != 0)
+            metadata.add(new EntityData<>(dataIndex + 1, EntityDataTypes.ROTATION, headPose));
+        if ((mask & BODY_POSE) != 0)
+            metadata.add(new EntityData<>(dataIndex + 2, EntityDataTypes.ROTATION, bodyPose));
+        if ((mask & LEFT_ARM_POSE) != 0)
+            metadata.add(new EntityData<>(dataIndex + 3, EntityDataTypes.ROTATION, leftArmPose));
+        if ((mask & RIGHT_ARM_POSE) != 0)
+            metadata.add(new EntityData<>(dataIndex + 4, EntityDataTypes.ROTATION, rightArmPose));
+        if ((mask & LEFT_LEG_POSE) != 0)
+            metadata.add(new EntityData<>(dataIndex + 5, EntityDataTypes.ROTATION, leftLegPose));
+        if ((mask & RIGHT_LEG_POSE) != 0)
+            metadata.add(new EntityData<>(dataIndex + 6, EntityDataTypes.ROTATION, rightLegPose));
+    }
 
-        return new WrapperPlayServerEntityMetadata(id, metadata);
+    private void markDirty(int field) {
+        sync.dirty |= field;
+        sync.spawnMetadata = null;
     }
 
     private static int dataIndex() {
@@ -192,48 +378,43 @@ public class ArmorStand {
         else return (byte) (b0 & ~i);
     }
 
-    public static final class Builder {
-        private static final AtomicInteger NEXT_ID = new AtomicInteger(Integer.MIN_VALUE);
+    private static final class SyncState {
+        private int dirty = ALL;
+        private List<EntityData<?>> spawnMetadata;
+        private final PositionSync position = new PositionSync();
+    }
 
+    public static final class Builder {
         private final ArmorStand armorStand;
 
-        public Builder() {
-            this.armorStand = new ArmorStand(nextId(), UUID.randomUUID());
+        public Builder(int id) {
+            this.armorStand = new ArmorStand(id, PacketEntity.randomUUID());
         }
 
-        public static ArmorStand nametagArmorStand(Component component, Location loc) {
-            return new Builder()
+        public static ArmorStand nametagArmorStand(int id, Component component, Location loc) {
+            return new Builder(id)
                     .marker(true)
                     .invisible(true).basePlate(false).zeroPose()
                     .name(component, true).pos(loc).small(false)
                     .build();
         }
 
-        public static Builder itemArmorStand(ItemStack s, Location loc) {
-            return new Builder()
+        public static Builder itemArmorStand(int id, ItemStack s, Location loc) {
+            return new Builder(id)
                     .marker(true)
                     .invisible(true).basePlate(false).zeroPose()
                     .helmet(s)
                     .pos(loc);
         }
 
-        public static Builder tinyItemArmorStand(ItemStack s, Location loc) {
-            return new Builder()
+        public static Builder tinyItemArmorStand(int id, ItemStack s, Location loc) {
+            return new Builder(id)
                     .marker(true).small(true)
                     .invisible(true).basePlate(false).arms(true).zeroPose()
                     .mainHand(s)
                     .pos(loc);
         }
 
-        private static int nextId() {
-            return NEXT_ID.getAndUpdate(i -> {
-                if (++i < 0) return i;
-                HoloUI.log(Level.SEVERE, "Entity IDs overflow");
-                HoloUI.log(Level.SEVERE, "Please restart your server!");
-                return Integer.MIN_VALUE;
-            });
-        }
-
         public Builder pos(Location loc) {
             armorStand.location(PacketUtils.vector3d(loc.toVector()))
                     .yaw(loc.getYaw())
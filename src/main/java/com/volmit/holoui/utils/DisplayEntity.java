@@ -0,0 +1,226 @@
+/*
+ * HoloUI is a holographic user interface for Minecraft Bukkit Servers
+ * Copyright (c) 2025 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.volmit.holoui.utils;
+
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.protocol.entity.data.EntityData;
+import com.github.retrooper.packetevents.protocol.entity.data.EntityDataTypes;
+import com.github.retrooper.packetevents.protocol.entity.type.EntityType;
+import com.github.retrooper.packetevents.protocol.entity.type.EntityTypes;
+import com.github.retrooper.packetevents.util.Vector3d;
+import com.github.retrooper.packetevents.util.Vector3f;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerDestroyEntities;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerEntityMetadata;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerSpawnEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import org.bukkit.Location;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.Vector;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static io.github.retrooper.packetevents.util.SpigotConversionUtil.fromBukkitItemStack;
+
+@Getter
+@Accessors(fluent = true)
+public class DisplayEntity implements PacketEntity {
+    private static final float LINE_HEIGHT = .25F;
+    private static final int INTERPOLATION_TICKS = 3;
+    private static final byte BILLBOARD_CENTER = 3;
+    private static final byte ITEM_CONTEXT_GUI = 6;
+
+    private static final int TEXT = 1;
+    private static final int ITEM = 1 << 1;
+    private static final int TRANSLATION = 1 << 2;
+    private static final int ALL = (1 << 3) - 1;
+
+    private final int id;
+    private final Type type;
+    private final float scale;
+    private Vector3d location;
+    private float yaw, pitch;
+    @Nullable
+    private Component text;
+    private int lines = 1;
+    @Nullable
+    private ItemStack item;
+
+    @Getter(AccessLevel.NONE)
+    private int dirty = ALL;
+    @Getter(AccessLevel.NONE)
+    private final PositionSync position = new PositionSync();
+
+    private DisplayEntity(int id, Type type, float scale, Location location) {
+        this.id = id;
+        this.type = type;
+        this.scale = scale;
+        this.location = PacketUtils.vector3d(location.toVector());
+        this.yaw = location.getYaw();
+        this.pitch = location.getPitch();
+    }
+
+    public static boolean isSupported() {
+        return PacketEvents.getAPI().getServerManager().getVersion().isNewerThanOrEquals(ServerVersion.V_1_19_4);
+    }
+
+    public static DisplayEntity text(int id, List<Component> lines, float lineSpacing, Location center) {
+        DisplayEntity entity = new DisplayEntity(id, Type.TEXT, lineSpacing / LINE_HEIGHT, center);
+        entity.text(lines);
+        return entity;
+    }
+
+    public static DisplayEntity item(int id, ItemStack item, float scale, Location center) {
+        DisplayEntity entity = new DisplayEntity(id, Type.ITEM, scale, center);
+        entity.item = item;
+        return entity;
+    }
+
+    public DisplayEntity text(List<Component> lines) {
+        Component text = Component.join(JoinConfiguration.newlines(), lines);
+        if (!Objects.equals(this.text, text)) {
+            this.text = text;
+            dirty |= TEXT;
+        }
+        if (this.lines != lines.size()) {
+            this.lines = lines.size();
+            dirty |= TRANSLATION;
+        }
+        return this;
+    }
+
+    public DisplayEntity item(ItemStack item) {
+        if (!Objects.equals(this.item, item)) {
+            this.item = item;
+            dirty |= ITEM;
+        }
+        return this;
+    }
+
+    public List<PacketWrapper<?>> spawn() {
+        List<PacketWrapper<?>> packets = new ArrayList<>(2);
+        packets.add(new WrapperPlayServerSpawnEntity(id, Optional.of(PacketEntity.randomUUID()), type.entityType,
+                location, pitch, yaw, yaw, 0, Optional.empty()));
+        List<EntityData<?>> metadata = new ArrayList<>(10);
+        writeMetadata(metadata, ALL);
+        packets.add(new WrapperPlayServerEntityMetadata(id, metadata));
+        dirty = 0;
+        position.reset(location, yaw, pitch);
+        return packets;
+    }
+
+    public WrapperPlayServerDestroyEntities remove() {
+        return new WrapperPlayServerDestroyEntities(id);
+    }
+
+    @Nullable
+    public PacketWrapper<?> goTo(@NonNull Location location) {
+        this.location = PacketUtils.vector3d(location.toVector());
+        this.yaw = location.getYaw();
+        this.pitch = location.getPitch();
+        return position.update(id, this.location, yaw, pitch);
+    }
+
+    @Nullable
+    public PacketWrapper<?> move(@NonNull Vector offset) {
+        location = location.add(PacketUtils.vector3d(offset));
+        return position.update(id, location, yaw, pitch);
+    }
+
+    @Nullable
+    public PacketWrapper<?> rotate(float yaw, float pitch) {
+        this.yaw = yaw;
+        this.pitch = pitch;
+        return position.update(id, location, yaw, pitch);
+    }
+
+    @Nullable
+    public PacketWrapper<?> changeName(@Nullable Component name) {
+        if (type != Type.TEXT || Objects.equals(text, name))
+            return null;
+        this.text = name;
+        dirty |= TEXT;
+        return dataPacket();
+    }
+
+    @Nullable
+    public PacketWrapper<?> changeItem(@Nullable ItemStack item) {
+        if (type != Type.ITEM)
+            return null;
+        return item(item).dataPacket();
+    }
+
+    @Nullable
+    public PacketWrapper<?> dataPacket() {
+        if (dirty == 0)
+            return null;
+        List<EntityData<?>> metadata = new ArrayList<>(Integer.bitCount(dirty));
+        writeMetadata(metadata, dirty);
+        dirty = 0;
+        return metadata.isEmpty() ? null : new WrapperPlayServerEntityMetadata(id, metadata);
+    }
+
+    private void writeMetadata(List<EntityData<?>> metadata, int mask) {
+        boolean teleportInterpolation = PacketEvents.getAPI().getServerManager().getVersion().isNewerThanOrEquals(ServerVersion.V_1_20_2);
+        int offset = teleportInterpolation ? 1 : 0;
+
+        if (mask == ALL) {
+            metadata.add(new EntityData<>(9, EntityDataTypes.INT, INTERPOLATION_TICKS));
+            if (teleportInterpolation)
+                metadata.add(new EntityData<>(10, EntityDataTypes.INT, INTERPOLATION_TICKS));
+            metadata.add(new EntityData<>(11 + offset, EntityDataTypes.VECTOR3F, new Vector3f(scale, scale, scale)));
+            metadata.add(new EntityData<>(14 + offset, EntityDataTypes.BYTE, BILLBOARD_CENTER));
+        }
+
+        if (type == Type.TEXT) {
+            if ((mask & TRANSLATION) != 0)
+                metadata.add(new EntityData<>(10 + offset, EntityDataTypes.VECTOR3F, new Vector3f(0, -lines * LINE_HEIGHT * scale / 2, 0)));
+            if ((mask & TEXT) != 0)
+                metadata.add(new EntityData<>(22 + offset, EntityDataTypes.ADV_COMPONENT, text == null ? Component.empty() : text));
+            if (mask == ALL) {
+                metadata.add(new EntityData<>(23 + offset, EntityDataTypes.INT, Integer.MAX_VALUE));
+                metadata.add(new EntityData<>(24 + offset, EntityDataTypes.INT, 0));
+            }
+        } else if ((mask & ITEM) != 0) {
+            metadata.add(new EntityData<>(22 + offset, EntityDataTypes.ITEMSTACK, fromBukkitItemStack(item)));
+            if (mask == ALL)
+                metadata.add(new EntityData<>(23 + offset, EntityDataTypes.BYTE, ITEM_CONTEXT_GUI));
+        }
+    }
+
+    public enum Type {
+        TEXT(EntityTypes.TEXT_DISPLAY),
+        ITEM(EntityTypes.ITEM_DISPLAY);
+
+        private final EntityType entityType;
+
+        Type(EntityType entityType) {
+            this.entityType = entityType;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * HoloUI is a holographic user interface for Minecraft Bukkit Servers
+ * Copyright (c) 2025 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.volmit.holoui.utils;
+
+import com.volmit.holoui.utils.collection.IntList;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+public final class EntityIds {
+
+    public static final int BLOCK_SIZE = 64;
+    public static final long QUARANTINE_MILLIS = 2000;
+
+    private static final Object LOCK = new Object();
+    private static final IntList freeBlocks = new IntList(64);
+    private static final Queue<Quarantined> quarantine = new ArrayDeque<>();
+    private static long next = Integer.MIN_VALUE;
+    private static int quarantined;
+
+    private EntityIds() {
+    }
+
+    public static int reserveBlock() {
+        synchronized (LOCK) {
+            drainQuarantine();
+            if (!freeBlocks.isEmpty())
+                return freeBlocks.removeAt(freeBlocks.size() - 1);
+            return fresh(BLOCK_SIZE);
+        }
+    }
+
+    public static void releaseBlock(int start) {
+        synchronized (LOCK) {
+            quarantine.add(new Quarantined(start, System.currentTimeMillis() + QUARANTINE_MILLIS));
+            quarantined += BLOCK_SIZE;
+        }
+    }
+
+    // Ids handed out in blocks, whether or not an entity currently uses them.
+    public static long reserved() {
+        synchronized (LOCK) {
+            return next - Integer.MIN_VALUE - free() - quarantined;
+        }
+    }
+
+    public static int free() {
+        synchronized (LOCK) {
+            return freeBlocks.size() * BLOCK_SIZE;
+        }
+    }
+
+    public static int quarantined() {
+        synchronized (LOCK) {
+            return quarantined;
+        }
+    }
+
+    private static int fresh(int count) {
+        if (next + count > 0)
+            throw new IllegalStateException("Entity id space exhausted, " + quarantined + " ids are still quarantined");
+        int start = (int) next;
+        next += count;
+        return start;
+    }
+
+    private static void drainQuarantine() {
+        long now = System.currentTimeMillis();
+        Quarantined head;
+        while ((head = quarantine.peek()) != null && head.until() <= now) {
+            quarantine.remove();
+            freeBlocks.add(head.start());
+            quarantined -= BLOCK_SIZE;
+        }
+    }
+
+    private record Quarantined(int start, long until) {
+    }
+}
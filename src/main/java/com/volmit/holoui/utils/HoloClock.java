@@ -0,0 +1,193 @@
+/*
+ * HoloUI is a holographic user interface for Minecraft Bukkit Servers
+ * Copyright (c) 2025 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.volmit.holoui.utils;
+
+import com.volmit.holoui.HoloUI;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.DoubleSupplier;
+import java.util.function.Predicate;
+
+public final class HoloClock {
+
+    private final List<Task> essential = new ArrayList<>();
+    private final List<Task> budgeted = new ArrayList<>();
+    private final List<Wheel<?>> wheels = new ArrayList<>();
+    private final DoubleSupplier budgetMillis;
+    private final BukkitTask timer;
+
+    private long tick;
+    private long deadline;
+
+    public HoloClock(Plugin plugin, DoubleSupplier budgetMillis) {
+        this.budgetMillis = budgetMillis;
+        this.timer = SchedulerUtils.scheduleSyncTask(plugin, 1L, this::tick, false);
+    }
+
+    public Task every(long period, Runnable action) {
+        Task task = new Task(period, action);
+        essential.add(task);
+        return task;
+    }
+
+    public Task everyBudgeted(long period, Runnable action) {
+        Task task = new Task(period, action);
+        budgeted.add(task);
+        return task;
+    }
+
+    public <T> Wheel<T> wheel(int slots, Predicate<T> action) {
+        Wheel<T> wheel = new Wheel<>(slots, action);
+        wheels.add(wheel);
+        return wheel;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public void stop() {
+        timer.cancel();
+    }
+
+    private void tick() {
+        tick++;
+        deadline = System.nanoTime() + (long) (budgetMillis.getAsDouble() * 1_000_000);
+        essential.removeIf(Task::isCancelled);
+        budgeted.removeIf(Task::isCancelled);
+
+        for (Task task : essential)
+            task.runIfDue(false);
+        for (Wheel<?> wheel : wheels)
+            wheel.advance();
+        // Deferred work always advances by at least one step per tick so it cannot starve.
+        boolean progressed = false;
+        for (Task task : budgeted) {
+            if (progressed && overBudget()) break;
+            progressed |= task.runIfDue(true);
+        }
+        for (Wheel<?> wheel : wheels)
+            wheel.drain();
+    }
+
+    private boolean overBudget() {
+        return System.nanoTime() >= deadline;
+    }
+
+    public final class Task {
+        private final long period;
+        private final Runnable action;
+        private long nextRun;
+        private boolean cancelled;
+
+        private Task(long period, Runnable action) {
+            this.period = Math.max(period, 1);
+            this.action = action;
+            this.nextRun = tick + this.period;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        private boolean runIfDue(boolean budgeted) {
+            if (cancelled || tick < nextRun) return false;
+            nextRun = tick + period;
+            try {
+                action.run();
+            } catch (Throwable e) {
+                HoloUI.logExceptionStack(true, e, budgeted ? "A deferred HoloUI task failed:" : "A HoloUI task failed:");
+            }
+            return true;
+        }
+    }
+
+    public final class Wheel<T> {
+        private final List<List<T>> slots;
+        private final Predicate<T> action;
+        private final Queue<T> pending = new ArrayDeque<>();
+        private final Set<T> queued = new HashSet<>();
+        private int size;
+
+        private Wheel(int slots, Predicate<T> action) {
+            this.slots = new ArrayList<>(slots);
+            for (int i = 0; i < slots; i++)
+                this.slots.add(new ArrayList<>());
+            this.action = action;
+        }
+
+        public void add(T element) {
+            slots.get(Math.floorMod(element.hashCode(), slots.size())).add(element);
+            size++;
+        }
+
+        public void remove(T element) {
+            if (slots.get(Math.floorMod(element.hashCode(), slots.size())).remove(element))
+                size--;
+            if (queued.remove(element))
+                pending.remove(element);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public int backlog() {
+            return pending.size();
+        }
+
+        private void advance() {
+            List<T> slot = slots.get((int) (tick % slots.size()));
+            for (T element : slot) {
+                if (queued.add(element))
+                    pending.add(element);
+            }
+        }
+
+        // Over budget a wheel still drains one slot's worth per tick, so the backlog can't outgrow a full turn.
+        private void drain() {
+            int guaranteed = Math.max(1, (size + slots.size() - 1) / slots.size());
+            int processed = 0;
+            T element;
+            while ((processed < guaranteed || !overBudget()) && (element = pending.poll()) != null) {
+                queued.remove(element);
+                processed++;
+                boolean drop;
+                try {
+                    drop = action.test(element);
+                } catch (Throwable e) {
+                    HoloUI.logExceptionStack(true, e, "A sharded HoloUI task failed:");
+                    drop = false;
+                }
+                if (drop)
+                    remove(element);
+            }
+        }
+    }
+}
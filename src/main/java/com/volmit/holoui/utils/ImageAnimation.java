@@ -0,0 +1,77 @@
+/*
+ * HoloUI is a holographic user interface for Minecraft Bukkit Servers
+ * Copyright (c) 2025 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.volmit.holoui.utils;
+
+import net.kyori.adventure.text.Component;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public final class ImageAnimation {
+
+    private final Frame[] frames;
+
+    private ImageAnimation(Frame[] frames) {
+        this.frames = frames;
+    }
+
+    // Frames are padded to the tallest one and store which lines differ from the frame before them.
+    public static ImageAnimation of(List<BufferedImage> images, List<Integer> delays) {
+        int height = 0;
+        for (BufferedImage image : images)
+            height = Math.max(height, image.getHeight());
+
+        List<List<Component>> lines = new ArrayList<>(images.size());
+        for (BufferedImage image : images) {
+            List<Component> frame = ImageUtils.toComponents(image, true);
+            Component empty = ImageUtils.emptyLine(image.getWidth());
+            while (frame.size() < height)
+                frame.add(empty);
+            lines.add(List.copyOf(frame));
+        }
+
+        Frame[] frames = new Frame[lines.size()];
+        for (int i = 0; i < frames.length; i++) {
+            List<Component> current = lines.get(i);
+            List<Component> previous = lines.get((i + frames.length - 1) % frames.length);
+            int[] changed = new int[height];
+            int count = 0;
+            for (int line = 0; line < height; line++) {
+                if (!Objects.equals(current.get(line), previous.get(line)))
+                    changed[count++] = line;
+            }
+            int[] trimmed = new int[count];
+            System.arraycopy(changed, 0, trimmed, 0, count);
+            frames[i] = new Frame(current, trimmed, Math.max(1, delays.get(i)));
+        }
+        return new ImageAnimation(frames);
+    }
+
+    public int size() {
+        return frames.length;
+    }
+
+    public Frame get(int index) {
+        return frames[index];
+    }
+
+    public record Frame(List<Component> lines, int[] changedLines, int delay) {
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * HoloUI is a holographic user interface for Minecraft Bukkit Servers
+ * Copyright (c) 2025 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.volmit.holoui.utils;
+
+import net.kyori.adventure.text.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class ImageCache {
+
+    private final long maxWeight;
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, .75F, true);
+    private long weight;
+
+    public ImageCache(long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    // Converted lines are immutable and shared by every icon showing the same file until it changes on disk.
+    public synchronized List<Component> get(File file, Loader loader) throws IOException {
+        String path = file.getAbsolutePath();
+        long modified = file.lastModified();
+        long size = file.length();
+        Entry entry = entries.get(path);
+        if (entry != null && entry.modified == modified && entry.size == size)
+            return entry.lines;
+        if (entry != null) {
+            entries.remove(path);
+            weight -= entry.weight;
+        }
+
+        List<Component> lines = List.copyOf(loader.load(file));
+        entry = new Entry(lines, modified, size, weigh(lines));
+        entries.put(path, entry);
+        weight += entry.weight;
+        evict();
+        return lines;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    private void evict() {
+        Iterator<Entry> it = entries.values().iterator();
+        while (weight > maxWeight && entries.size() > 1 && it.hasNext()) {
+            weight -= it.next().weight;
+            it.remove();
+        }
+    }
+
+    private static long weigh(List<Component> lines) {
+        long weight = 0;
+        for (Component line : lines)
+            weight += 1 + line.children().size();
+        return weight;
+    }
+
+    private record Entry(List<Component> lines, long modified, long size, long weight) {
+    }
+
+    @FunctionalInterface
+    public interface Loader {
+        List<Component> load(File file) throws IOException;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * HoloUI is a holographic user interface for Minecraft Bukkit Servers
+ * Copyright (c) 2025 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.volmit.holoui.utils;
+
+import com.google.common.collect.Lists;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.TextDecoration;
+
+import java.awt.image.BufferedImage;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public final class ImageUtils {
+
+    private static final String PIXEL = "█";
+    private static final String SPACE = " ";
+
+    // Neighbouring pixels of the same colour share one node, as do runs of transparent pixels.
+    public static List<Component> toComponents(BufferedImage image, boolean transparency) {
+        List<Component> lines = Lists.newArrayListWithCapacity(image.getHeight());
+        for (int y = 0; y < image.getHeight(); y++) {
+            var component = Component.text();
+            int runColour = 0, runLength = 0;
+            boolean runClear = false;
+            for (int x = 0; x < image.getWidth(); x++) {
+                int colour = image.getRGB(x, y);
+                boolean clear = transparency && ((colour >> 24) & 0x0000FF) < 255;
+                colour &= 0x00FFFFFF;
+                if (runLength > 0 && (clear != runClear || !clear && colour != runColour)) {
+                    appendRun(component, runClear, runColour, runLength);
+                    runLength = 0;
+                }
+                runClear = clear;
+                runColour = colour;
+                runLength++;
+            }
+            if (runLength > 0)
+                appendRun(component, runClear, runColour, runLength);
+            lines.add(component.build());
+        }
+        return lines;
+    }
+
+    public static Component emptyLine(int width) {
+        var component = Component.text();
+        if (width > 0)
+            appendRun(component, true, 0, width);
+        return component.build();
+    }
+
+    // Rough size of the lines as JSON chat components, as sent in the name metadata.
+    public static long estimateSize(List<Component> lines) {
+        long size = 0;
+        for (Component line : lines) {
+            size += nodeSize(0, false, false);
+            for (Component child : line.children()) {
+                String content = child instanceof TextComponent text ? text.content() : "";
+                size += nodeSize(content.getBytes(StandardCharsets.UTF_8).length, child.color() != null,
+                        child.hasDecoration(TextDecoration.BOLD)) + 1;
+            }
+        }
+        return size;
+    }
+
+    // What estimateSize would report for the same image with one node per pixel.
+    public static long estimateUnmergedSize(BufferedImage image, boolean transparency) {
+        long pixel = nodeSize(PIXEL.getBytes(StandardCharsets.UTF_8).length, true, false) + 1;
+        long clear = nodeSize(1, false, true) + nodeSize(1, false, false) + 2;
+        long size = 0;
+        for (int y = 0; y < image.getHeight(); y++) {
+            size += nodeSize(0, false, false);
+            for (int x = 0; x < image.getWidth(); x++)
+                size += transparency && ((image.getRGB(x, y) >> 24) & 0x0000FF) < 255 ? clear : pixel;
+        }
+        return size;
+    }
+
+    private static void appendRun(TextComponent.Builder line, boolean clear, int colour, int length) {
+        if (clear)
+            line.append(Component.text(SPACE.repeat(length)).decorate(TextDecoration.BOLD))
+                    .append(Component.text(SPACE.repeat(length)));
+        else
+            line.append(TextUtils.textColor(PIXEL.repeat(length), colour));
+    }
+
+    // {"text":""} plus ,"color":"#rrggbb" and ,"bold":true
+    private static long nodeSize(int contentBytes, boolean coloured, boolean bold) {
+        return 11 + contentBytes + (coloured ? 18 : 0) + (bold ? 12 : 0);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * HoloUI is a holographic user interface for Minecraft Bukkit Servers
+ * Copyright (c) 2025 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.volmit.holoui.utils;
+
+import com.github.retrooper.packetevents.util.Vector3d;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerDestroyEntities;
+import lombok.NonNull;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Location;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.Vector;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+public interface PacketEntity {
+    static UUID randomUUID() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+
+    int id();
+
+    Vector3d location();
+
+    float yaw();
+
+    float pitch();
+
+    List<PacketWrapper<?>> spawn();
+
+    WrapperPlayServerDestroyEntities remove();
+
+    @Nullable
+    PacketWrapper<?> goTo(@NonNull Location location);
+
+    @Nullable
+    PacketWrapper<?> move(@NonNull Vector offset);
+
+    @Nullable
+    PacketWrapper<?> rotate(float yaw, float pitch);
+
+    @Nullable
+    PacketWrapper<?> changeName(@Nullable Component name);
+
+    @Nullable
+    PacketWrapper<?> changeItem(@Nullable ItemStack item);
+
+    @Nullable
+    PacketWrapper<?> dataPacket();
+}
@@ -18,33 +18,117 @@
 package com.volmit.holoui.utils;
 
 import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.protocol.player.ClientVersion;
+import com.github.retrooper.packetevents.protocol.player.User;
 import com.github.retrooper.packetevents.util.Vector3d;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerBundle;
 import org.bukkit.entity.Player;
 import org.bukkit.util.Vector;
 
-import java.util.Collection;
-import java.util.Collections;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 public final class PacketUtils {
 
+    private static final int MAX_BUNDLE_SIZE = 4095;
+    private static final Map<Player, Queue<PacketWrapper<?>>> QUEUES = new ConcurrentHashMap<>();
+    private static final List<PacketWrapper<?>> FLUSH_BUFFER = new ArrayList<>();
+    private static final ThreadLocal<Map<Player, List<PacketWrapper<?>>>> BATCH = new ThreadLocal<>();
+
     public static void send(Player player, PacketWrapper<?> packet) {
-        if (player == null) return;
-        send(player, Collections.singletonList(packet));
+        if (player == null || packet == null) return;
+        Map<Player, List<PacketWrapper<?>>> batch = BATCH.get();
+        if (batch != null)
+            batch.computeIfAbsent(player, p -> new ArrayList<>()).add(packet);
+        else
+            queue(player).add(packet);
+        Profiler.countPackets(1);
     }
 
     public static void send(Player player, Collection<PacketWrapper<?>> packets) {
-        if (player == null) return;
-        send(Collections.singletonList(player), packets);
+        if (player == null || packets.isEmpty()) return;
+        Map<Player, List<PacketWrapper<?>>> batch = BATCH.get();
+        if (batch != null)
+            batch.computeIfAbsent(player, p -> new ArrayList<>()).addAll(packets);
+        else
+            queue(player).addAll(packets);
+        Profiler.countPackets(packets.size());
+    }
+
+    public static void send(Collection<Player> players, PacketWrapper<?> packet) {
+        if (packet == null) return;
+        players.forEach(player -> send(player, packet));
     }
 
     public static void send(Collection<Player> players, Collection<PacketWrapper<?>> packets) {
+        players.forEach(player -> send(player, packets));
+    }
+
+    // Packets sent from this thread are held back until commitBatch, so a flush never sees half of them.
+    public static void beginBatch() {
+        BATCH.set(new HashMap<>());
+    }
+
+    public static void commitBatch() {
+        Map<Player, List<PacketWrapper<?>>> batch = BATCH.get();
+        BATCH.remove();
+        if (batch == null || batch.isEmpty()) return;
+        synchronized (PacketUtils.class) {
+            batch.forEach((player, packets) -> queue(player).addAll(packets));
+        }
+    }
+
+    // Only the main thread flushes, other threads hand their packets over through a batch.
+    public static synchronized void flush() {
+        if (QUEUES.isEmpty()) return;
+        long start = Profiler.start();
         var pm = PacketEvents.getAPI().getPlayerManager();
-        players.forEach(player ->
-                packets.forEach(packet ->
-                        pm.sendPacket(player, packet)
-                )
-        );
+        boolean bundles = PacketEvents.getAPI().getServerManager().getVersion().isNewerThanOrEquals(ServerVersion.V_1_19_4);
+        var iterator = QUEUES.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            Player player = entry.getKey();
+            Queue<PacketWrapper<?>> queue = entry.getValue();
+            User user = player.isOnline() ? pm.getUser(player) : null;
+            if (user == null) {
+                iterator.remove();
+                continue;
+            }
+
+            PacketWrapper<?> packet;
+            while ((packet = queue.poll()) != null)
+                FLUSH_BUFFER.add(packet);
+            if (FLUSH_BUFFER.isEmpty()) continue;
+
+            try {
+                ClientVersion version = user.getClientVersion();
+                if (bundles && FLUSH_BUFFER.size() > 1 && version != null && version.isNewerThanOrEquals(ClientVersion.V_1_19_4))
+                    writeBundled(user, FLUSH_BUFFER);
+                else
+                    FLUSH_BUFFER.forEach(user::writePacket);
+                user.flushPackets();
+            } finally {
+                FLUSH_BUFFER.clear();
+            }
+        }
+        Profiler.record(Profiler.Section.PACKET_FLUSH, null, start);
+    }
+
+    private static void writeBundled(User user, List<PacketWrapper<?>> packets) {
+        for (int start = 0; start < packets.size(); start += MAX_BUNDLE_SIZE) {
+            int end = Math.min(start + MAX_BUNDLE_SIZE, packets.size());
+            user.writePacket(new WrapperPlayServerBundle());
+            for (int i = start; i < end; i++)
+                user.writePacket(packets.get(i));
+            user.writePacket(new WrapperPlayServerBundle());
+        }
+    }
+
+    private static Queue<PacketWrapper<?>> queue(Player player) {
+        return QUEUES.computeIfAbsent(player, p -> new ConcurrentLinkedQueue<>());
     }
 
     public static Vector vector(Vector3d vector) {
@@ -0,0 +1,78 @@
+/*
+ * HoloUI is a holographic user interface for Minecraft Bukkit Servers
+ * Copyright (c) 2025 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.volmit.holoui.utils;
+
+import com.github.retrooper.packetevents.util.Vector3d;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import com.github.retrooper.packetevents.wrapper.play.server.*;
+import org.jetbrains.annotations.Nullable;
+
+final class PositionSync {
+    private static final double POSITION_SCALE = 4096;
+
+    private Vector3d location;
+    private byte yaw, pitch;
+
+    void reset(Vector3d location, float yaw, float pitch) {
+        this.location = location;
+        this.yaw = angle(yaw);
+        this.pitch = angle(pitch);
+    }
+
+    @Nullable
+    PacketWrapper<?> update(int id, Vector3d location, float yaw, float pitch) {
+        byte yawAngle = angle(yaw);
+        byte pitchAngle = angle(pitch);
+        boolean rotated = yawAngle != this.yaw || pitchAngle != this.pitch;
+        this.yaw = yawAngle;
+        this.pitch = pitchAngle;
+
+        Vector3d synced = this.location;
+        if (synced == null) {
+            this.location = location;
+            return new WrapperPlayServerEntityTeleport(id, location, yaw, pitch, true);
+        }
+
+        long dx = Math.round((location.getX() - synced.getX()) * POSITION_SCALE);
+        long dy = Math.round((location.getY() - synced.getY()) * POSITION_SCALE);
+        long dz = Math.round((location.getZ() - synced.getZ()) * POSITION_SCALE);
+        if (dx == 0 && dy == 0 && dz == 0)
+            return rotated ? new WrapperPlayServerEntityRotation(id, yaw, pitch, true) : null;
+
+        if (!fitsRelative(dx) || !fitsRelative(dy) || !fitsRelative(dz)) {
+            this.location = location;
+            return new WrapperPlayServerEntityTeleport(id, location, yaw, pitch, true);
+        }
+
+        double x = dx / POSITION_SCALE;
+        double y = dy / POSITION_SCALE;
+        double z = dz / POSITION_SCALE;
+        this.location = new Vector3d(synced.getX() + x, synced.getY() + y, synced.getZ() + z);
+        if (rotated)
+            return new WrapperPlayServerEntityRelativeMoveAndRotation(id, x, y, z, yaw, pitch, true);
+        return new WrapperPlayServerEntityRelativeMove(id, x, y, z, true);
+    }
+
+    private static byte angle(float angle) {
+        return (byte) (int) (angle * 256.0F / 360.0F);
+    }
+
+    private static boolean fitsRelative(long delta) {
+        return delta >= Short.MIN_VALUE && delta <= Short.MAX_VALUE;
+    }
+}
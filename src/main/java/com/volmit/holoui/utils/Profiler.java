@@ -0,0 +1,221 @@
+/*
+ * HoloUI is a holographic user interface for Minecraft Bukkit Servers
+ * Copyright (c) 2025 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.volmit.holoui.utils;
+
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.event.PacketListenerAbstract;
+import com.github.retrooper.packetevents.event.PacketListenerCommon;
+import com.github.retrooper.packetevents.event.PacketListenerPriority;
+import com.github.retrooper.packetevents.event.PacketSendEvent;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.protocol.packettype.PacketType;
+import com.github.retrooper.packetevents.protocol.packettype.PacketTypeCommon;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class Profiler {
+
+    private static final Map<String, Histogram[]> menus = new ConcurrentHashMap<>();
+    private static final Histogram[] global = histograms();
+    private static final AtomicLong packets = new AtomicLong();
+    private static final AtomicLong bytes = new AtomicLong();
+    private static volatile boolean enabled;
+    private static volatile long enabledAt;
+    private static PacketListenerCommon byteCounter;
+
+    private Profiler() {
+    }
+
+    public static synchronized void setEnabled(boolean enabled) {
+        if (Profiler.enabled == enabled) return;
+        if (enabled) {
+            reset();
+            byteCounter = PacketEvents.getAPI().getEventManager().registerListener(new ByteCounter());
+        } else if (byteCounter != null) {
+            PacketEvents.getAPI().getEventManager().unregisterListener(byteCounter);
+            byteCounter = null;
+        }
+        Profiler.enabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void reset() {
+        menus.clear();
+        for (Histogram histogram : global)
+            histogram.clear();
+        packets.set(0);
+        bytes.set(0);
+        enabledAt = System.nanoTime();
+    }
+
+    public static long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    public static void record(Section section, String menu, long start) {
+        if (start == 0) return;
+        long elapsed = System.nanoTime() - start;
+        global[section.ordinal()].record(elapsed);
+        if (menu != null)
+            menus.computeIfAbsent(menu, m -> histograms())[section.ordinal()].record(elapsed);
+    }
+
+    public static void countPackets(int count) {
+        if (enabled)
+            packets.addAndGet(count);
+    }
+
+    public static double elapsedSeconds() {
+        return (System.nanoTime() - enabledAt) / 1.0E9;
+    }
+
+    public static double packetsPerSecond() {
+        return packets.get() / Math.max(elapsedSeconds(), 1.0E-3);
+    }
+
+    public static double bytesPerSecond() {
+        return bytes.get() / Math.max(elapsedSeconds(), 1.0E-3);
+    }
+
+    public static Histogram get(Section section) {
+        return global[section.ordinal()];
+    }
+
+    public static Histogram get(Section section, String menu) {
+        Histogram[] histograms = menus.get(menu);
+        return histograms == null ? null : histograms[section.ordinal()];
+    }
+
+    private static Histogram[] histograms() {
+        Histogram[] histograms = new Histogram[Section.values().length];
+        for (int i = 0; i < histograms.length; i++)
+            histograms[i] = new Histogram();
+        return histograms;
+    }
+
+    public enum Section {
+        SESSION_TICK("session tick"),
+        COMPONENT_TICK("component tick"),
+        ICON_SPAWN("icon spawn"),
+        IMAGE_CONVERT("image conversion"),
+        PACKET_FLUSH("packet flush");
+
+        @Getter
+        private final String displayName;
+
+        Section(String displayName) {
+            this.displayName = displayName;
+        }
+    }
+
+    public static final class Histogram {
+        private static final int BUCKETS = 64;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong max = new AtomicLong();
+
+        private void record(long nanos) {
+            buckets.incrementAndGet(BUCKETS - 1 - Long.numberOfLeadingZeros(Math.max(nanos, 1)));
+            count.incrementAndGet();
+            total.addAndGet(nanos);
+            max.accumulateAndGet(nanos, Math::max);
+        }
+
+        private void clear() {
+            for (int i = 0; i < BUCKETS; i++)
+                buckets.set(i, 0);
+            count.set(0);
+            total.set(0);
+            max.set(0);
+        }
+
+        public long count() {
+            return count.get();
+        }
+
+        public long averageNanos() {
+            long count = count();
+            return count == 0 ? 0 : total.get() / count;
+        }
+
+        public long maxNanos() {
+            return max.get();
+        }
+
+        public long percentileNanos(double percentile) {
+            long count = count();
+            if (count == 0) return 0;
+            long target = (long) Math.ceil(count * percentile);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= target)
+                    return Math.min(1L << Math.min(i + 1, 62), maxNanos());
+            }
+            return maxNanos();
+        }
+    }
+
+    private static final class ByteCounter extends PacketListenerAbstract {
+
+        private ByteCounter() {
+            super(PacketListenerPriority.MONITOR);
+        }
+
+        @Override
+        public void onPacketSend(PacketSendEvent event) {
+            Object buffer = event.getByteBuf();
+            if (buffer == null || !isOwnEntity(event.getPacketType(), buffer)) return;
+            bytes.addAndGet(ByteBufHelper.readableBytes(buffer));
+        }
+
+        private boolean isOwnEntity(PacketTypeCommon type, Object buffer) {
+            if (type != PacketType.Play.Server.SPAWN_ENTITY
+                    && type != PacketType.Play.Server.ENTITY_METADATA
+                    && type != PacketType.Play.Server.ENTITY_TELEPORT
+                    && type != PacketType.Play.Server.ENTITY_RELATIVE_MOVE
+                    && type != PacketType.Play.Server.ENTITY_RELATIVE_MOVE_AND_ROTATION
+                    && type != PacketType.Play.Server.ENTITY_ROTATION
+                    && type != PacketType.Play.Server.ENTITY_EQUIPMENT
+                    && type != PacketType.Play.Server.SET_PASSENGERS
+                    && type != PacketType.Play.Server.DESTROY_ENTITIES)
+                return false;
+
+            // HoloUI entity ids are all negative, vanilla ids never are.
+            int readerIndex = ByteBufHelper.readerIndex(buffer);
+            try {
+                PacketWrapper<?> wrapper = PacketWrapper.createUniversalPacketWrapper(buffer);
+                if (type == PacketType.Play.Server.DESTROY_ENTITIES && wrapper.readVarInt() == 0)
+                    return false;
+                return wrapper.readVarInt() < 0;
+            } finally {
+                ByteBufHelper.readerIndex(buffer, readerIndex);
+            }
+        }
+    }
+}
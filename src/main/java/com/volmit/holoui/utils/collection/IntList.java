@@ -0,0 +1,87 @@
+/*
+ * HoloUI is a holographic user interface for Minecraft Bukkit Servers
+ * Copyright (c) 2025 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.volmit.holoui.utils.collection;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+public final class IntList {
+
+    private int[] elements;
+    private int size;
+
+    public IntList() {
+        this(8);
+    }
+
+    public IntList(int capacity) {
+        this.elements = new int[Math.max(capacity, 1)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int get(int index) {
+        if (index >= size)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        return elements[index];
+    }
+
+    public void add(int value) {
+        if (size == elements.length)
+            elements = Arrays.copyOf(elements, size << 1);
+        elements[size++] = value;
+    }
+
+    public int removeAt(int index) {
+        int value = get(index);
+        int moved = size - index - 1;
+        if (moved > 0)
+            System.arraycopy(elements, index + 1, elements, index, moved);
+        size--;
+        return value;
+    }
+
+    public boolean remove(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < size; i++)
+            consumer.accept(elements[i]);
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    public void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * HoloUI is a holographic user interface for Minecraft Bukkit Servers
+ * Copyright (c) 2025 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.volmit.holoui.utils.collection;
+
+import java.util.Arrays;
+
+public final class IntObjectMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = .5F;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    public IntObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntObjectMap(int expected) {
+        allocate(tableSize(expected));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int slot = slot(key);
+        Object value;
+        while ((value = values[slot]) != null) {
+            if (keys[slot] == key)
+                return (V) value;
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null)
+            throw new NullPointerException("value");
+        int slot = slot(key);
+        Object old;
+        while ((old = values[slot]) != null) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return (V) old;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= resizeAt)
+            rehash(values.length << 1);
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int slot = slot(key);
+        Object value;
+        while ((value = values[slot]) != null) {
+            if (keys[slot] == key) {
+                shiftBack(slot);
+                size--;
+                return (V) value;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super V> consumer) {
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value != null)
+                consumer.accept(keys[i], (V) value);
+        }
+    }
+
+    public void clear() {
+        if (size == 0)
+            return;
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private void shiftBack(int slot) {
+        int free = slot;
+        int next = (slot + 1) & mask;
+        while (values[next] != null) {
+            int ideal = slot(keys[next]);
+            if (((next - ideal) & mask) >= ((next - free) & mask)) {
+                keys[free] = keys[next];
+                values[free] = values[next];
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[free] = null;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            Object value = oldValues[i];
+            if (value == null)
+                continue;
+            int slot = slot(oldKeys[i]);
+            while (values[slot] != null)
+                slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            values[slot] = value;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int slot(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static int tableSize(int expected) {
+        int capacity = Integer.highestOneBit(Math.max((int) (expected / LOAD_FACTOR), DEFAULT_CAPACITY) - 1) << 1;
+        return Math.max(capacity, DEFAULT_CAPACITY);
+    }
+
+    @FunctionalInterface
+    public interface Consumer<V> {
+        void accept(int key, V value);
+    }
+}
@@ -21,58 +21,94 @@ import lombok.Getter;
 import org.bukkit.Location;
 import org.bukkit.util.Vector;
 
-@Getter
 public class CollisionPlane {
 
-    private static final Vector UP = new Vector(0, 1, 0);
-    private static final Vector RIGHT = new Vector(1, 0, 0);
+    private static final double DEG_TO_RAD = Math.PI / 180;
 
-    private Vector up, right, center, normal;
+    @Getter
+    private double centerX, centerY, centerZ;
+    private double upX, upY, upZ;
+    private double rightX, rightY, rightZ;
+    private double normalX, normalY, normalZ;
+    @Getter
     private float width, height, pitch, yaw;
 
     public CollisionPlane(Vector center, float width, float height) {
-        this.center = center;
         this.width = width;
         this.height = height;
-        this.up = UP.clone();
-        this.right = RIGHT.clone();
-        calcNormal();
+        setCenter(center.getX(), center.getY(), center.getZ());
+        calcAxes();
     }
 
     public boolean isLookingAt(Vector origin, Vector direction) {
-        Vector offset = center.clone().subtract(origin);
-        double proj = normal.dot(direction);
+        return isLookingAt(origin.getX(), origin.getY(), origin.getZ(), direction.getX(), direction.getY(), direction.getZ());
+    }
+
+    public boolean isLookingAt(Location eye) {
+        return intersect(eye) >= 0;
+    }
+
+    public boolean isLookingAt(double ox, double oy, double oz, double dx, double dy, double dz) {
+        return intersect(ox, oy, oz, dx, dy, dz) >= 0;
+    }
+
+    public double intersect(Location eye) {
+        double yaw = eye.getYaw() * DEG_TO_RAD;
+        double pitch = eye.getPitch() * DEG_TO_RAD;
+        double xz = Math.cos(pitch);
+        return intersect(eye.getX(), eye.getY(), eye.getZ(), -xz * Math.sin(yaw), -Math.sin(pitch), xz * Math.cos(yaw));
+    }
+
+    // Distance along the ray to the hit, or -1 if the ray misses the plane.
+    public double intersect(double ox, double oy, double oz, double dx, double dy, double dz) {
+        double proj = normalX * dx + normalY * dy + normalZ * dz;
         if (proj == 0)
-            return false;
-        double distance = normal.dot(offset) / proj;
+            return -1;
+        double distance = (normalX * (centerX - ox) + normalY * (centerY - oy) + normalZ * (centerZ - oz)) / proj;
         if (distance < 0.0F)
-            return false;
-        Vector intersect = origin.clone().add(direction.clone().multiply(distance)).subtract(center);
-        float distX = (float) Math.abs(right.dot(intersect));
-        float distY = (float) Math.abs(up.dot(intersect));
-        return distX < width / 2 && distY < height / 2;
+            return -1;
+        double ix = ox + dx * distance - centerX;
+        double iy = oy + dy * distance - centerY;
+        double iz = oz + dz * distance - centerZ;
+        float distX = (float) Math.abs(rightX * ix + rightY * iy + rightZ * iz);
+        float distY = (float) Math.abs(upX * ix + upY * iy + upZ * iz);
+        return distX < width / 2 && distY < height / 2 ? distance : -1;
+    }
+
+    public double getBoundingRadius() {
+        return Math.sqrt(width * width + height * height) / 2;
     }
 
     public void rotate(float pitch, float yaw) {
         if (pitch != this.pitch || yaw != this.yaw) {
             this.pitch = pitch;
             this.yaw = yaw;
-            this.up = UP.clone().rotateAroundX(Math.toRadians(pitch)).rotateAroundY(Math.toRadians(yaw));
-            this.right = RIGHT.clone().rotateAroundX(Math.toRadians(pitch)).rotateAroundY(Math.toRadians(yaw));
-            calcNormal();
+            calcAxes();
         }
     }
 
+    public boolean faceTowards(double x, double y, double z) {
+        double dx = centerX - x;
+        double dy = centerY - y;
+        double dz = centerZ - z;
+        float pitch = (float) MathHelper.pitchFromDirection(dx, dy, dz);
+        float yaw = (float) -MathHelper.yawFromDirection(dx, dz);
+        if (pitch == this.pitch && yaw == this.yaw)
+            return false;
+        rotate(pitch, yaw);
+        return true;
+    }
+
     public void move(Location loc) {
-        this.center = loc.toVector();
+        setCenter(loc.getX(), loc.getY(), loc.getZ());
     }
 
     public void translate(double x, double y, double z) {
-        translate(new Vector(x, y, z));
+        setCenter(centerX + x, centerY + y, centerZ + z);
     }
 
     public void translate(Vector vec) {
-        this.center.add(vec);
+        translate(vec.getX(), vec.getY(), vec.getZ());
     }
 
     public void resize(float width, float height) {
@@ -80,7 +116,43 @@ public class CollisionPlane {
         this.height = height;
     }
 
-    private void calcNormal() {
-        this.normal = up.clone().crossProduct(right).normalize();
+    public Vector getCenter() {
+        return new Vector(centerX, centerY, centerZ);
+    }
+
+    public Vector getUp() {
+        return new Vector(upX, upY, upZ);
+    }
+
+    public Vector getRight() {
+        return new Vector(rightX, rightY, rightZ);
+    }
+
+    public Vector getNormal() {
+        return new Vector(normalX, normalY, normalZ);
+    }
+
+    private void setCenter(double x, double y, double z) {
+        this.centerX = x;
+        this.centerY = y;
+        this.centerZ = z;
+    }
+
+    // UP and RIGHT rotated around X by the pitch and then around Y by the yaw,
+    // the normal is their cross product which is already of unit length.
+    private void calcAxes() {
+        double sinPitch = Math.sin(pitch * DEG_TO_RAD);
+        double cosPitch = Math.cos(pitch * DEG_TO_RAD);
+        double sinYaw = Math.sin(yaw * DEG_TO_RAD);
+        double cosYaw = Math.cos(yaw * DEG_TO_RAD);
+        this.upX = sinPitch * sinYaw;
+        this.upY = cosPitch;
+        this.upZ = sinPitch * cosYaw;
+        this.rightX = cosYaw;
+        this.rightY = 0;
+        this.rightZ = -sinYaw;
+        this.normalX = -cosPitch * sinYaw;
+        this.normalY = sinPitch;
+        this.normalZ = -cosPitch * cosYaw;
     }
 }
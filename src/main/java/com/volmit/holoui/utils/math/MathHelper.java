@@ -22,13 +22,22 @@ import org.bukkit.util.Vector;
 
 public final class MathHelper {
 
+    private static final double TWO_PI = 2 * Math.PI;
+
     public static Location rotateAroundPoint(Location loc, Location center, float pitch, float yaw) {
-        loc.subtract(center);
-        Vector newPos = loc.toVector().rotateAroundX(Math.toRadians(pitch)).rotateAroundY(Math.toRadians(yaw));
-        loc.setX(newPos.getX());
-        loc.setY(newPos.getY());
-        loc.setZ(newPos.getZ());
-        return loc.add(center);
+        double x = loc.getX() - center.getX();
+        double y = loc.getY() - center.getY();
+        double z = loc.getZ() - center.getZ();
+        double sin = Math.sin(Math.toRadians(pitch));
+        double cos = Math.cos(Math.toRadians(pitch));
+        double ry = y * cos - z * sin;
+        double rz = y * sin + z * cos;
+        sin = Math.sin(Math.toRadians(yaw));
+        cos = Math.cos(Math.toRadians(yaw));
+        loc.setX(center.getX() + x * cos + rz * sin);
+        loc.setY(center.getY() + ry);
+        loc.setZ(center.getZ() - x * sin + rz * cos);
+        return loc;
     }
 
     public static Vector unit(Vector a, Vector b) {
@@ -40,24 +49,36 @@ public final class MathHelper {
     }
 
     public static Vector getRotationFromDirection(Vector dir) {
-        double _2PI = 2 * Math.PI;
-        double x = dir.getX();
-        double z = dir.getZ();
-        Vector rot = new Vector();
+        return new Vector(pitchFromDirection(dir.getX(), dir.getY(), dir.getZ()), yawFromDirection(dir.getX(), dir.getZ()), 0);
+    }
 
-        if (x == 0 && z == 0) {
-            rot.setX(dir.getY() > 0 ? -90 : 90);
-            return rot;
-        }
+    public static double pitchFromDirection(double x, double y, double z) {
+        if (x == 0 && z == 0)
+            return y > 0 ? -90 : 90;
+        return Math.toDegrees(Math.atan(-y / Math.sqrt(x * x + z * z)));
+    }
 
+    public static double yawFromDirection(double x, double z) {
+        if (x == 0 && z == 0)
+            return 0;
         double theta = Math.atan2(-x, z);
-        rot.setY(Math.toDegrees((theta + _2PI) % _2PI));
+        return Math.toDegrees((theta + TWO_PI) % TWO_PI);
+    }
 
-        double x2 = Math.pow(x, 2);
-        double z2 = Math.pow(z, 2);
-        double xz = Math.sqrt(x2 + z2);
-        rot.setX(Math.toDegrees(Math.atan(-dir.getY() / xz)));
-        return rot;
+    public static boolean isInView(Location eye, double targetX, double targetY, double targetZ, double maxDistance, double minCos, double nearDistance) {
+        double dx = targetX - eye.getX();
+        double dy = targetY - eye.getY();
+        double dz = targetZ - eye.getZ();
+        double distanceSq = dx * dx + dy * dy + dz * dz;
+        if (distanceSq > maxDistance * maxDistance)
+            return false;
+        if (distanceSq <= nearDistance * nearDistance)
+            return true;
+        double yaw = Math.toRadians(eye.getYaw());
+        double pitch = Math.toRadians(eye.getPitch());
+        double xz = Math.cos(pitch);
+        double dot = -dx * xz * Math.sin(yaw) - dy * Math.sin(pitch) + dz * xz * Math.cos(yaw);
+        return dot >= minCos * Math.sqrt(distanceSq);
     }
 
     public static float getYawToLookAt(Vector origin, Vector target) {